@@ -0,0 +1,848 @@
+//*** JavaFX UI components ***//
+import javafx.application.Application;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.*;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.input.KeyCode;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.util.StringConverter;
+
+//*** Import for file operations (csv import) ***//
+import java.io.File;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+//*** Scheduler core (no JavaFX dependency) ***//
+import scheduler.Comparison;
+import scheduler.EventLog;
+import scheduler.IncrementalScheduler;
+import scheduler.LatencyStats;
+import scheduler.MappedCsvLoader;
+import scheduler.PerfSchedTrace;
+import scheduler.PlaybackTimeline;
+import scheduler.ProgressListener;
+import scheduler.ResultCache;
+import scheduler.ScheduleResult;
+import scheduler.SchedulerCli;
+import scheduler.Scheduler;
+import scheduler.SchedulerScratch;
+import scheduler.SegmentIndex;
+import scheduler.Schedulers;
+import scheduler.SmpResult;
+import scheduler.SmpScheduler;
+import scheduler.StreamingScheduler;
+import scheduler.SwitchCost;
+import scheduler.TraceFile;
+import scheduler.Workload;
+
+
+
+public class CPUSchedulerApp extends Application
+{
+    private Stage popoutStage;
+    private TableView<Integer> table;
+    private ProcessTableModel data;
+    private EventLogView outputArea;
+    private ChoiceBox<EventLog.Verbosity> verbosityBox;
+    private ChoiceBox<Scheduler> algoBox;
+    private Spinner<Integer> cpuSpinner;
+    private ChoiceBox<SmpScheduler.Balance> balanceBox;
+    private TextField costField;
+    private Canvas ganttCanvas;
+    private ProgressBar progressBar;
+    private Button cancelBtn;
+    private Task<?> progressOwner;
+    private ScheduleResult lastResult;
+    private SavedRun lastRun; //*** Last single-CPU run with its input, for Save Run ***//
+
+    //*** Everything a .sched file holds for one run ***//
+    private record SavedRun(Workload workload, String algorithm, ScheduleResult result, int[] completion) { }
+
+    //*** Scheduler runs happen one at a time on this thread, which also owns the scratch state ***//
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r ->
+    {
+        Thread t = new Thread(r, "scheduler-run");
+        t.setDaemon(true);
+        return t;
+    });
+    private final SchedulerScratch scratch = new SchedulerScratch();
+    private final Map<StreamingScheduler.Policy, IncrementalScheduler> incremental = new EnumMap<>(StreamingScheduler.Policy.class); //*** Runner thread only ***//
+    private Task<?> currentRun;
+
+    //*** Finished runs by table contents; -Dscheduler.cacheDir spills evicted log-free runs to disk ***//
+    private final ResultCache results = new ResultCache(Runtime.getRuntime().maxMemory() / 8,
+            System.getProperty("scheduler.cacheDir") == null ? null : Path.of(System.getProperty("scheduler.cacheDir")));
+
+    //*** Entry point: launches the JavaFX application, or the headless runner for --batch ***//
+    public static void main(String[] args)
+    {
+        if (args.length > 0 && args[0].equals("--batch"))
+        {
+            System.exit(SchedulerCli.run(args)); //*** Never starts the FX toolkit ***//
+        }
+
+        launch(args);
+    }
+
+    @Override
+    public void start(Stage primaryStage)
+    {
+        //*** Set the window title ***//
+        primaryStage.setTitle("CPU Scheduling Simulator");
+
+        //*** Initialize the column model and the TableView over its row positions ***//
+        data = new ProcessTableModel();
+        table = new TableView<>(data);
+        table.setPrefHeight(200);
+        setupTableColumns();  //*** Configure table columns ***//
+        enableRowRemoval();   //*** Allow rows to be removed on double-click or Delete ***//
+
+        //*** Create the input controls (ID, Arrival, Burst, buttons) ***//
+        HBox inputBox = createInputBox(primaryStage);
+
+        //*** Buttons to run the scheduling algorithms ***//
+        HBox actionBox = gethBox();
+
+        //*** Multi-CPU run: core count and load balancing policy ***//
+        HBox smpBox = createSmpBox();
+
+        //*** Context-switch overhead charged by SRTF and HRRN ***//
+        HBox costBox = createCostBox();
+
+        //*** Paged text area for displaying output (log, averages and throughput) ***//
+        outputArea = new EventLogView();
+        outputArea.setPrefHeight(200);
+
+        //*** Canvas for overview Gantt chart ***//
+        ganttCanvas = new Canvas(634, 150);
+        drawEmptyGantt(ganttCanvas);  //*** Draw placeholder ***//
+
+        //*** Overview title with the playback button ***//
+        Button playBtn = new Button("Play");
+        playBtn.setTooltip(new Tooltip("Play the last schedule out over time"));
+        playBtn.setOnAction(e -> showPlayback());
+        Region ganttSpacer = new Region();
+        HBox.setHgrow(ganttSpacer, Priority.ALWAYS);
+        HBox ganttHeader = new HBox(10, new Label("Gantt Chart Overview:"), ganttSpacer, playBtn);
+        ganttHeader.setAlignment(Pos.CENTER_LEFT);
+
+        //*** Layout all components in a vertical box ***//
+        VBox root = new VBox(10, table, inputBox, actionBox, smpBox, costBox, outputArea, ganttHeader, ganttCanvas);
+        root.setPadding(new Insets(10));
+
+        //*** Set window size ***//
+        primaryStage.setScene(new Scene(root, 654, 840));
+        primaryStage.show();
+
+        //*** Ensures full Gantt window closes when main window closes ***//
+        primaryStage.setOnCloseRequest(e ->
+        {
+            if (popoutStage != null && popoutStage.isShowing())
+            {
+                popoutStage.close();
+            }
+        });
+    }
+
+    private HBox gethBox()
+    {
+        //*** One entry per registered Scheduler implementation ***//
+        algoBox = new ChoiceBox<>(FXCollections.observableArrayList(Schedulers.all()));
+        algoBox.setConverter(new StringConverter<>()
+        {
+            @Override
+            public String toString(Scheduler s) { return s == null ? "" : s.name(); }
+
+            @Override
+            public Scheduler fromString(String name) { return Schedulers.byName(name); }
+        });
+        algoBox.getSelectionModel().selectFirst();
+        algoBox.setTooltip(new Tooltip("Scheduling algorithm"));
+
+        Button runBtn = new Button("Run");
+        runBtn.setOnAction(e -> runSelected()); //*** Schedule using the selected algorithm ***//
+
+        Button compareBtn = new Button("Compare All");
+        compareBtn.setOnAction(e -> runComparison()); //*** Every algorithm, concurrently ***//
+
+        Button popoutBtn = new Button("Show Full Gantt");
+        popoutBtn.setOnAction(e -> showFullGanttWindow()); //*** Show detailed Gantt ***//
+
+        //*** Log detail: off (metrics only), one line per slice, or one line per time unit ***//
+        verbosityBox = new ChoiceBox<>(FXCollections.observableArrayList(EventLog.Verbosity.values()));
+        verbosityBox.setValue(EventLog.Verbosity.TICKS);
+        verbosityBox.setTooltip(new Tooltip("Log detail"));
+
+        //*** Only visible while background work (CSV import or a run) is going on ***//
+        progressBar = new ProgressBar();
+        progressBar.setVisible(false);
+
+        cancelBtn = new Button("\u2715"); //*** Unicode multiplication X ***//
+        cancelBtn.setTooltip(new Tooltip("Cancel the running schedule"));
+        cancelBtn.setVisible(false);
+        cancelBtn.setOnAction(e ->
+        {
+            if (currentRun != null) currentRun.cancel(true);
+        });
+
+        HBox actionBox = new HBox(10, algoBox, runBtn, compareBtn, popoutBtn, verbosityBox, progressBar, cancelBtn);
+        actionBox.setAlignment(Pos.CENTER_LEFT);
+        actionBox.setPadding(new Insets(10));
+
+        return actionBox;
+    }
+
+    private HBox createSmpBox()
+    {
+        cpuSpinner = new Spinner<>(1, 128, 4);
+        cpuSpinner.setEditable(true);
+        cpuSpinner.setPrefWidth(80);
+
+        //*** Global queue, per-CPU queues with work stealing, or pinned per-CPU queues ***//
+        balanceBox = new ChoiceBox<>(FXCollections.observableArrayList(SmpScheduler.Balance.values()));
+        balanceBox.setValue(SmpScheduler.Balance.STEAL);
+        balanceBox.setTooltip(new Tooltip("Load balancing"));
+
+        Button smpBtn = new Button("Run SRTF on CPUs");
+        smpBtn.setOnAction(e -> runSMP()); //*** One Gantt lane per CPU ***//
+
+        HBox smpBox = new HBox(10, new Label("CPUs:"), cpuSpinner, balanceBox, smpBtn);
+        smpBox.setAlignment(Pos.CENTER_LEFT);
+        smpBox.setPadding(new Insets(0, 10, 0, 10));
+
+        return smpBox;
+    }
+
+    private HBox createCostBox()
+    {
+        costField = new TextField();
+        costField.setPromptText("switch=1,resume=1,cold=4,warmth=50");
+        costField.setPrefWidth(260);
+        costField.setTooltip(new Tooltip("Time lost per context switch, per resume, and on a cold cache (decaying over warmth units); empty = free"));
+
+        HBox costBox = new HBox(10, new Label("Switch cost:"), costField);
+        costBox.setAlignment(Pos.CENTER_LEFT);
+        costBox.setPadding(new Insets(0, 10, 0, 10));
+
+        return costBox;
+    }
+
+    //*** The switch cost typed in, SwitchCost.NONE when empty; null (with a message) when it does not parse ***//
+    private SwitchCost switchCost()
+    {
+        String spec = costField.getText().trim();
+
+        if (spec.isEmpty()) return SwitchCost.NONE;
+
+        try
+        {
+            return SwitchCost.parse(spec);
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            outputArea.setText("Bad switch cost: " + ex.getMessage());
+
+            return null;
+        }
+    }
+
+    //*** Config three columns (ID, Arrival, Burst) in the Table ***//
+    private void setupTableColumns()
+    {
+        TableColumn<Integer, Number> idCol = column("ID", ProcessTableModel.Column.ID);
+        TableColumn<Integer, Number> arrivalCol = column("Arrival", ProcessTableModel.Column.ARRIVAL);
+        TableColumn<Integer, Number> burstCol = column("Burst", ProcessTableModel.Column.BURST);
+
+        table.getColumns().setAll(List.of(idCol, arrivalCol, burstCol));
+
+        //*** Sorting permutes the int columns; applying the keys last to first gives a multi-column order (the sort is stable) ***//
+        table.setSortPolicy(t ->
+        {
+            List<TableColumn<Integer, ?>> order = t.getSortOrder();
+
+            for (int i = order.size() - 1; i >= 0; i--)
+            {
+                TableColumn<Integer, ?> c = order.get(i);
+                data.sort((ProcessTableModel.Column) c.getUserData(), c.getSortType() == TableColumn.SortType.ASCENDING);
+            }
+
+            return true;
+        });
+
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        idCol.prefWidthProperty().bind(table.widthProperty().multiply(1.0 / 3));
+        arrivalCol.prefWidthProperty().bind(table.widthProperty().multiply(1.0 / 3));
+        burstCol.prefWidthProperty().bind(table.widthProperty().multiply(1.0 / 3));
+    }
+
+    //*** Cells read the model's column directly: no reflection, no object per row ***//
+    private TableColumn<Integer, Number> column(String title, ProcessTableModel.Column c)
+    {
+        TableColumn<Integer, Number> col = new TableColumn<>(title);
+        col.setUserData(c);
+        col.setCellValueFactory(f -> new ReadOnlyIntegerWrapper(data.value(c, f.getValue())));
+
+        return col;
+    }
+
+    //*** Allow removal of processes by double-clicking a table row, or of the selected rows with Delete ***//
+    private void enableRowRemoval()
+    {
+        table.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+
+        table.setRowFactory(e ->
+        {
+            TableRow<Integer> row = new TableRow<>();
+            row.setOnMouseClicked(ev ->
+            {
+                if (ev.getClickCount() == 2 && !row.isEmpty())
+                {
+                    data.remove(row.getIndex());  //*** Bye-bye ***//
+                }
+            });
+
+            return row;
+        });
+
+        table.setOnKeyPressed(ev ->
+        {
+            if (ev.getCode() == KeyCode.DELETE || ev.getCode() == KeyCode.BACK_SPACE)
+            {
+                int[] rows = table.getSelectionModel().getSelectedIndices().stream().mapToInt(Integer::intValue).toArray();
+                table.getSelectionModel().clearSelection();
+                data.removeRows(rows); //*** One compaction pass and one change event ***//
+            }
+        });
+    }
+
+    //*** Create input fields and buttons for adding/importing/clearing processes ***//
+    private HBox createInputBox(Stage parent)
+    {
+        TextField idField = new TextField(); idField.setPromptText("ID");
+        TextField arrivalField = new TextField(); arrivalField.setPromptText("Arrival");
+        TextField burstField = new TextField(); burstField.setPromptText("Burst");
+
+        //*** Add button to insert a new process from input fields ***//
+        Button addBtn = getButton(idField, arrivalField, burstField);
+
+        //*** Import button to load processes from a CSV file or a saved binary trace ***//
+        Button importBtn = new Button("Import");
+        importBtn.setOnAction(e -> importCSV(parent));
+
+        //*** Save button writes the last run with its input, reloadable through Import ***//
+        Button saveBtn = new Button("Save Run");
+        saveBtn.setOnAction(e -> saveRun(parent));
+
+        Region spacer = new Region();
+        HBox.setHgrow(spacer, Priority.ALWAYS);
+
+        //*** Clear button with refresh icon to reset data and UI ***//
+        Button clearBtn = new Button();
+        clearBtn.setGraphic(new Label("\u21BB")); //*** Unicode refresh symbol ***//
+        clearBtn.setTooltip(new Tooltip("Clear all data!"));
+
+        //*** Resets all processes, logs, and gantt chart ***//
+        clearBtn.setOnAction(e ->
+        {
+            data.clear();
+            lastRun = null;
+            outputArea.clear();
+            drawEmptyGantt(ganttCanvas);
+        });
+
+        //*** Input box layout ***//
+        HBox box = new HBox(5, idField, arrivalField, burstField, addBtn, importBtn, saveBtn, spacer, clearBtn);
+        box.setPadding(new Insets(10));
+        box.setAlignment(Pos.CENTER_LEFT);
+
+        return box;
+    }
+
+    //*** Where the magic happens of the add and import button ***//
+    private Button getButton(TextField idField, TextField arrivalField, TextField burstField)
+    {
+        Button addBtn = new Button("Add");
+        addBtn.setOnAction(e ->
+        {
+            try
+            {
+                int id = Integer.parseInt(idField.getText());
+                int arrival = Integer.parseInt(arrivalField.getText());
+                int burst = Integer.parseInt(burstField.getText());
+                data.add(id, arrival, burst);
+                idField.clear(); arrivalField.clear(); burstField.clear();
+            }
+
+            catch (NumberFormatException ex)
+            {
+                //*** Ignore invalid numeric input ***//
+            }
+        });
+
+        return addBtn;
+    }
+
+    //*** Import processes from a CSV file with at least three columns (ID, Arrival, Burst) ***//
+    private void importCSV(Stage parent)
+    {
+        FileChooser chooser = new FileChooser();
+        chooser.getExtensionFilters().addAll(new FileChooser.ExtensionFilter("Traces", "*.csv", "*" + TraceFile.EXTENSION, "*.txt"),
+                new FileChooser.ExtensionFilter("CSV Files", "*.csv"), new FileChooser.ExtensionFilter("Saved runs", "*" + TraceFile.EXTENSION),
+                new FileChooser.ExtensionFilter("perf sched / ftrace text", "*.txt"));
+        File file = chooser.showOpenDialog(parent);
+
+        if (file == null) return; //*** User cancels selection ***//
+
+        record Imported(Workload rows, long skipped, SavedRun run) { }
+
+        EventLog.Verbosity verbosity = verbosityBox.getValue(); //*** For the log of a recorded Linux trace ***//
+
+        //*** Parse off the FX thread; the table only sees one bulk change at the end ***//
+        Task<Imported> task = new Task<>()
+        {
+            @Override
+            protected Imported call() throws Exception
+            {
+                //*** Binary traces are memory-mapped column by column, and may carry a saved schedule ***//
+                if (TraceFile.isTrace(file.toPath()))
+                {
+                    TraceFile.Contents c = TraceFile.read(file.toPath());
+                    SavedRun run = c.result == null ? null : new SavedRun(c.workload, c.algorithm, c.result, c.completion);
+
+                    if (run != null) run.result().index(); //*** Lanes are built here rather than on the FX thread ***//
+
+                    return new Imported(c.workload, 0, run);
+                }
+
+                //*** perf sched / ftrace text: one job per CPU burst, with the recorded timeline as the result ***//
+                if (PerfSchedTrace.isSchedTrace(file.toPath()))
+                {
+                    PerfSchedTrace.Result t = PerfSchedTrace.read(file.toPath(), -1, 1000, true, verbosity, f -> updateProgress(f, 1.0));
+                    SavedRun run = new SavedRun(t.workload, "Recorded", t.baseline, t.completion);
+                    run.result().index();
+
+                    return new Imported(t.workload, t.skipped, run);
+                }
+
+                MappedCsvLoader.Result res = MappedCsvLoader.load(file.toPath(), f -> updateProgress(f, 1.0));
+
+                return new Imported(res.workload, res.skipped, null);
+            }
+        };
+
+        trackProgress(task);
+
+        task.setOnSucceeded(e ->
+        {
+            Imported imported = task.getValue();
+            data.addAll(imported.rows()); //*** Copied straight into the columns, one change event, invalid rows already skipped ***//
+
+            //*** Show warning if no valid entries were imported ***//
+            if (imported.rows().size() == 0)
+            {
+                Alert alert = new Alert(AlertType.WARNING, "No valid entries found in CSV.", ButtonType.OK);
+                alert.setHeaderText("Import Warning");
+                alert.showAndWait();
+            }
+
+            else if (imported.run() != null)
+            {
+                lastRun = imported.run();
+
+                //*** Saved schedule or recorded trace: shown without re-running ***//
+                if (imported.run().result() instanceof SmpResult smp) showSmp(smp);
+                else showResult(imported.run().result());
+            }
+
+            else
+            {
+                outputArea.setText(String.format("Imported %d processes from %s", imported.rows().size(), file.getName())
+                        + (imported.skipped() > 0 ? String.format("\n(%d rows skipped: fewer than three columns or invalid numbers)", imported.skipped()) : ""));
+            }
+        });
+
+        task.setOnFailed(e ->
+        {
+            task.getException().printStackTrace();  //*** Log file read errors ***//
+            outputArea.setText("Import failed: " + task.getException().getMessage());
+        });
+
+        Thread loader = new Thread(task, "csv-import");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    //*** Run the algorithm picked in the selector; SRTF and HRRN resume from the previous run where the rows allow ***//
+    private void runSelected()
+    {
+        Scheduler algo = algoBox.getValue();
+        EventLog.Verbosity verbosity = verbosityBox.getValue();
+        SwitchCost cost = switchCost();
+
+        if (algo == null || cost == null) return;
+
+        if (!cost.isFree()) algo = Schedulers.withSwitchCost(algo, cost);
+
+        Scheduler chosen = algo;
+
+        startRun((procs, progress) ->
+        {
+            ResultCache.Entry cached = results.get(procs, chosen, verbosity);
+
+            if (cached != null) return new Done(new SavedRun(procs, chosen.name(), cached.result, cached.completion), "\n(cached result)");
+
+            Done done = compute(procs, chosen, verbosity, progress);
+            done.run().result().index(); //*** Before put, so the cache counts it ***//
+            results.put(procs, chosen, verbosity, done.run().result(), done.run().completion());
+
+            return done;
+        }, done ->
+        {
+            lastRun = done.run();
+            showResult(done.run().result(), done.note());
+        });
+    }
+
+    private record Done(SavedRun run, String note) { }
+
+    //*** Runner thread: SRTF and HRRN go through their incremental schedulers, the rest run from scratch ***//
+    private Done compute(Workload procs, Scheduler algo, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        IncrementalScheduler inc = incrementalFor(algo);
+
+        if (inc == null)
+        {
+            ScheduleResult res = algo.run(procs, scratch, verbosity, progress);
+
+            return new Done(new SavedRun(procs, algo.name(), res, scratch.completionTimes(procs.size())), ""); //*** Before the scratch is reused ***//
+        }
+
+        ScheduleResult res = inc.schedule(procs, verbosity, progress);
+        String note = inc.resumedAt() == 0 ? "" : String.format("\nResumed at t=%d, re-scheduled %d of %d processes", inc.resumedAt(), inc.replayedJobs(), procs.size());
+
+        return new Done(new SavedRun(procs, algo.name(), res, inc.completionTimes()), note);
+    }
+
+    //*** Checkpointing runner for the streaming-capable policies, null for the rest and for tuned runs (switch costs) ***//
+    private IncrementalScheduler incrementalFor(Scheduler algo)
+    {
+        if (!algo.parameters().isEmpty()) return null;
+
+        for (StreamingScheduler.Policy p : StreamingScheduler.Policy.values())
+        {
+            if (p.name().equalsIgnoreCase(algo.name())) return incremental.computeIfAbsent(p, IncrementalScheduler::new);
+        }
+
+        return null;
+    }
+
+    //*** Write the last run (or, before any run, just the table) as a binary trace ***//
+    private void saveRun(Stage parent)
+    {
+        FileChooser chooser = new FileChooser();
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Saved runs", "*" + TraceFile.EXTENSION));
+        File file = chooser.showSaveDialog(parent);
+
+        if (file == null) return;
+
+        SavedRun run = lastRun;
+        Workload table = run == null ? tableSnapshot() : null;
+
+        Task<Void> task = new Task<>()
+        {
+            @Override
+            protected Void call() throws Exception
+            {
+                if (run == null) TraceFile.write(file.toPath(), table);
+                else TraceFile.write(file.toPath(), run.workload(), run.algorithm(), run.result(), run.completion());
+
+                return null;
+            }
+        };
+
+        task.setOnSucceeded(e -> outputArea.setText("Saved " + (run == null ? "processes" : run.algorithm() + " run") + " to " + file.getName()));
+        task.setOnFailed(e -> outputArea.setText("Save failed: " + task.getException().getMessage()));
+
+        Thread writer = new Thread(task, "trace-save");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    //*** Run SRTF on several simulated CPUs; the log lists per-CPU utilisation ***//
+    private void runSMP()
+    {
+        int cpus = cpuSpinner.getValue();
+        SmpScheduler.Balance balance = balanceBox.getValue();
+        startRun((procs, progress) ->
+        {
+            SmpResult res = SmpScheduler.schedule(procs, scratch, cpus, balance, progress);
+            res.index();
+
+            return res;
+        }, this::showSmp);
+    }
+
+    //*** Run all algorithms on one snapshot in parallel; lastResult is left untouched ***//
+    private void runComparison()
+    {
+        EventLog.Verbosity verbosity = verbosityBox.getValue();
+        SwitchCost cost = switchCost();
+
+        if (cost == null) return;
+
+        List<Scheduler> algos = Schedulers.all().stream().map(a -> cost.isFree() ? a : Schedulers.withSwitchCost(a, cost)).toList();
+
+        startRun((procs, progress) ->
+        {
+            try
+            {
+                Map<Scheduler, ScheduleResult> all = Comparison.runAll(procs, algos, verbosity, progress, ForkJoinPool.commonPool());
+                all.values().forEach(ScheduleResult::index);
+
+                return all;
+            }
+
+            catch (InterruptedException ex)
+            {
+                throw new CancellationException(); //*** Run cancelled while waiting on the pool ***//
+            }
+        }, this::showComparison);
+    }
+
+    private void showResult(ScheduleResult res)
+    {
+        showResult(res, "");
+    }
+
+    private void showResult(ScheduleResult res, String note)
+    {
+        lastResult = res;
+        displayResult(res, note);                       //*** Display output ***//
+    }
+
+    //*** Metrics side by side in the output area, full table and stacked charts in a window ***//
+    private void showComparison(Map<Scheduler, ScheduleResult> results)
+    {
+        StringBuilder sb = new StringBuilder(String.format("%-6s %10s %10s %10s %10s %10s %14s %6s%n", "Algo", "Avg WT", "p99 WT", "Avg TAT", "CPU Util", "Overhead", "Throughput", "Jain"));
+
+        for (Map.Entry<Scheduler, ScheduleResult> e : results.entrySet())
+        {
+            ScheduleResult r = e.getValue();
+            sb.append(String.format("%-6s %10.2f %10.0f %10.2f %9.2f%% %9.2f%% %14.4f %6.3f%n", e.getKey().name(), r.avgWT, r.latency.waiting().quantile(0.99), r.avgTAT,
+                    r.cpuUtil * 100, r.overhead * 100, r.throughput, r.latency.jainFairness()));
+        }
+
+        outputArea.setText(sb.toString());
+
+        Stage stage = new Stage();
+        stage.setTitle("Algorithm Comparison");
+        stage.setScene(new Scene(new ComparisonView(results)));
+        stage.show();
+    }
+
+    //*** Overview and log as for a single-CPU run (CPU 0's lane), every lane in its own window ***//
+    private void showSmp(SmpResult res)
+    {
+        showResult(res);
+
+        Stage stage = new Stage();
+        stage.setTitle(res.balance == null ? "Recorded trace on " + res.cpus + " CPUs" : "SRTF on " + res.cpus + " CPUs (" + res.balance + ")");
+        stage.setScene(new Scene(new SmpView(res)));
+        stage.show();
+    }
+
+    //*** Immutable view of the table, rebuilt only after an edit ***//
+    private Workload tableSnapshot()
+    {
+        return data.snapshot();
+    }
+
+    private interface Run<T>
+    {
+        T run(Workload procs, ProgressListener progress);
+    }
+
+    //*** Submit a run to the background executor; a new run cancels the one in flight ***//
+    private <T> void startRun(Run<T> run, Consumer<T> onResult)
+    {
+        if (currentRun != null) currentRun.cancel(true);
+
+        Workload procs = tableSnapshot();               //*** Snapshot input processes ***//
+
+        Task<T> task = new Task<>()
+        {
+            @Override
+            protected T call()
+            {
+                return run.run(procs, (done, total) ->
+                {
+                    if (isCancelled()) throw new CancellationException();
+
+                    updateProgress(done, total);
+                });
+            }
+        };
+
+        //*** Results only reach the UI on the FX thread, and only from the latest run ***//
+        task.setOnSucceeded(e ->
+        {
+            if (task != currentRun) return; //*** Finished just as a newer run replaced it ***//
+
+            onResult.accept(task.getValue());
+        });
+
+        task.setOnFailed(e ->
+        {
+            task.getException().printStackTrace();
+            outputArea.setText("Scheduling failed: " + task.getException());
+        });
+
+        currentRun = task;
+        trackProgress(task);
+        runner.submit(task);
+    }
+
+    //*** Show the progress bar for task until it is done, unless a newer task has taken it over ***//
+    private void trackProgress(Task<?> task)
+    {
+        progressOwner = task;
+        progressBar.progressProperty().bind(task.progressProperty());
+        progressBar.setVisible(true);
+        cancelBtn.setVisible(task == currentRun);
+
+        task.stateProperty().addListener((obs, old, state) ->
+        {
+            boolean done = state == Worker.State.SUCCEEDED || state == Worker.State.FAILED || state == Worker.State.CANCELLED;
+
+            if (done && progressOwner == task)
+            {
+                progressBar.setVisible(false);
+                cancelBtn.setVisible(false);
+            }
+        });
+    }
+
+    //*** Show a separate window with the full Gantt chart; only the visible part is ever drawn ***//
+    private void showFullGanttWindow()
+    {
+        if (lastResult == null) return;
+
+        popoutStage = new Stage();
+        popoutStage.setTitle("Full Gantt Chart");
+
+        //*** Ctrl+wheel zooms, Shift+wheel or drag pans through time, wheel scrolls rows ***//
+        GanttViewport viewport = new GanttViewport();
+        viewport.setSchedule(lastResult.index(), lastResult.totalTime);
+
+        popoutStage.setScene(new Scene(viewport));
+        popoutStage.show();
+    }
+
+    //*** Playback window for the last result; the ready queue needs the run's input, so it is left out for results without one ***//
+    private void showPlayback()
+    {
+        if (lastResult == null) return;
+
+        ScheduleResult res = lastResult;
+        SavedRun run = lastRun != null && lastRun.result() == res ? lastRun : null;
+
+        //*** Event list and snapshots are built off the FX thread ***//
+        Task<PlaybackTimeline> task = new Task<>()
+        {
+            @Override
+            protected PlaybackTimeline call()
+            {
+                return run == null ? null : PlaybackTimeline.of(run.workload(), run.completion(), res);
+            }
+        };
+
+        task.setOnSucceeded(e ->
+        {
+            GanttPlayer player = new GanttPlayer(res.index(), res.totalTime, task.getValue());
+
+            Stage stage = new Stage();
+            stage.setTitle("Schedule Playback");
+            stage.setScene(new Scene(player));
+            stage.setOnHidden(ev -> player.stop());
+            stage.show();
+        });
+
+        task.setOnFailed(e -> task.getException().printStackTrace());
+
+        ForkJoinPool.commonPool().execute(task);
+    }
+
+    //*** Display scheduling logs and draw the overview Gantt chart ***//
+    private void displayResult(ScheduleResult res, String note)
+    {
+        String metrics = String.format("\nAvg WT=%.2f \nAvg TAT=%.2f\nCPU Util=%.2f%% \nThroughput=%.2f proc/unit", res.avgWT, res.avgTAT, res.cpuUtil * 100, res.throughput);
+
+        if (res.overhead > 0) metrics += String.format("\nSwitch overhead=%.2f%% of CPU time", res.overhead * 100);
+        LatencyStats l = res.latency;
+
+        if (l != null && l.completed() > 0) //*** Loaded traces carry no distributions ***//
+        {
+            metrics += "\nWT  " + LatencyStats.summary(l.waiting()) + "\nTAT " + LatencyStats.summary(l.turnaround()) + "\nRT  " + LatencyStats.summary(l.response())
+                    + String.format("\nJain fairness=%.3f \nStarved=%d (turnaround >= %.0fx burst)", l.jainFairness(), l.starved(), LatencyStats.STARVATION_SLOWDOWN);
+        }
+
+        outputArea.show(res.log, metrics + note);
+
+        drawGantt(ganttCanvas, res.index(), res.totalTime);
+    }
+
+    //*** Draw the Gantt chart onto the given Canvas: one lane per process, lanes shrinking to fit up to 30 px each ***//
+    private void drawGantt(Canvas canvas, SegmentIndex index, int totalTime) //*** hehehe, segs ***//
+    {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        if (totalTime == 0)
+        {
+            drawEmptyGantt(canvas); //*** Nothing scheduled ***//
+
+            return;
+        }
+
+        double cellWidth = canvas.getWidth() / (double) totalTime;
+        double top = 10, gap = 4;
+        double h = Math.max(3, Math.min(30, (canvas.getHeight() - top) / Math.max(1, index.lanes()) - gap));
+
+        //*** Each lane at its own row; lanes past the bottom are left to the full chart ***//
+        for (int l = 0; l < index.lanes(); l++)
+        {
+            double y = top + l * (h + gap);
+
+            if (y + h > canvas.getHeight()) break;
+
+            GanttViewport.drawLane(gc, index, l, 0, cellWidth, canvas.getWidth(), y, h, false);
+        }
+    }
+
+    //*** Placeholder message when no Gantt chart is shown ***//
+    private void drawEmptyGantt(Canvas canvas)
+    {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(Color.LIGHTGRAY);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        gc.setFill(Color.BLACK);
+        gc.fillText("Gantt chart will appear here after running a schedule.\n\nMeanwhile, subscribe to @KuroeZucredl", 10, 20);
+    }
+}
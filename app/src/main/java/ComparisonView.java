@@ -0,0 +1,64 @@
+//*** JavaFX UI components ***//
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.VBox;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import scheduler.ScheduleResult;
+import scheduler.Scheduler;
+
+//*** Side-by-side metrics table for several runs of the same workload, with their Gantt charts stacked below ***//
+public final class ComparisonView extends BorderPane
+{
+    public ComparisonView(Map<Scheduler, ScheduleResult> results)
+    {
+        TableView<Map.Entry<Scheduler, ScheduleResult>> table = new TableView<>(FXCollections.observableArrayList(results.entrySet()));
+        table.getColumns().add(column("Algorithm", e -> e.getKey().name()));
+        table.getColumns().add(column("Avg WT", e -> String.format("%.2f", e.getValue().avgWT)));
+        table.getColumns().add(column("p99 WT", e -> String.format("%.0f", e.getValue().latency.waiting().quantile(0.99))));
+        table.getColumns().add(column("Avg TAT", e -> String.format("%.2f", e.getValue().avgTAT)));
+        table.getColumns().add(column("p99 RT", e -> String.format("%.0f", e.getValue().latency.response().quantile(0.99))));
+        table.getColumns().add(column("CPU Util", e -> String.format("%.2f%%", e.getValue().cpuUtil * 100)));
+        table.getColumns().add(column("Overhead", e -> String.format("%.2f%%", e.getValue().overhead * 100)));
+        table.getColumns().add(column("Throughput", e -> String.format("%.4f proc/unit", e.getValue().throughput)));
+        table.getColumns().add(column("Jain", e -> String.format("%.3f", e.getValue().latency.jainFairness())));
+        table.getColumns().add(column("Starved", e -> String.valueOf(e.getValue().latency.starved())));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        table.setPrefHeight(30 + 26 * results.size());
+
+        //*** One viewport per run, each only drawing what is visible ***//
+        VBox charts = new VBox(10);
+        charts.setPadding(new Insets(10));
+
+        for (Map.Entry<Scheduler, ScheduleResult> e : results.entrySet())
+        {
+            GanttViewport viewport = new GanttViewport();
+            viewport.setPrefHeight(220);
+            viewport.setSchedule(e.getValue().index(), e.getValue().totalTime);
+            charts.getChildren().addAll(new Label(e.getKey().name() + ":"), viewport);
+        }
+
+        ScrollPane scroll = new ScrollPane(charts);
+        scroll.setFitToWidth(true);
+
+        setTop(table);
+        setCenter(scroll);
+        setPrefSize(860, 700);
+    }
+
+    private static TableColumn<Map.Entry<Scheduler, ScheduleResult>, String> column(String title, Function<Map.Entry<Scheduler, ScheduleResult>, String> value)
+    {
+        TableColumn<Map.Entry<Scheduler, ScheduleResult>, String> col = new TableColumn<>(title);
+        col.setCellValueFactory(cell -> new SimpleStringProperty(value.apply(cell.getValue())));
+
+        return col;
+    }
+}
@@ -0,0 +1,96 @@
+//*** JavaFX UI components ***//
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TextArea;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+
+import scheduler.EventLog;
+
+//*** Paged view over an EventLog: the TextArea only ever holds the lines that fit on screen ***//
+//*** A plain message (imports, errors) can still be shown as ordinary text ***//
+public final class EventLogView extends HBox
+{
+    private static final double LINE_HEIGHT = 17; //*** Approximate TextArea line height in pixels ***//
+
+    private final TextArea area = new TextArea();
+    private final ScrollBar scroll = new ScrollBar();
+    private EventLog log;
+    private String[] footer = new String[0];
+
+    public EventLogView()
+    {
+        area.setEditable(false);
+        HBox.setHgrow(area, Priority.ALWAYS);
+
+        scroll.setOrientation(Orientation.VERTICAL);
+        scroll.setVisible(false);
+        scroll.valueProperty().addListener((obs, old, val) -> refresh());
+        area.heightProperty().addListener((obs, old, val) -> refresh());
+
+        //*** Mouse wheel pages through the log instead of the (short) TextArea content ***//
+        area.addEventFilter(ScrollEvent.SCROLL, e ->
+        {
+            if (log == null || e.getDeltaY() == 0) return;
+
+            double next = scroll.getValue() - Math.signum(e.getDeltaY()) * 3;
+            scroll.setValue(Math.max(scroll.getMin(), Math.min(scroll.getMax(), next)));
+            e.consume();
+        });
+
+        getChildren().addAll(area, scroll);
+    }
+
+    //*** Show a schedule log followed by footer text (metrics), starting at the top ***//
+    public void show(EventLog log, String footer)
+    {
+        this.log = log;
+        this.footer = footer.split("\n");
+        scroll.setVisible(true);
+        scroll.setValue(0);
+        refresh();
+    }
+
+    public void setText(String text)
+    {
+        log = null;
+        scroll.setVisible(false);
+        area.setText(text);
+    }
+
+    public void clear()
+    {
+        setText("");
+    }
+
+    private void refresh()
+    {
+        if (log == null) return;
+
+        long logLines = log.lineCount();
+        long total = logLines + footer.length;
+        int rows = Math.max(1, (int) ((area.getHeight() - 10) / LINE_HEIGHT));
+
+        scroll.setMin(0);
+        scroll.setMax(Math.max(0, total - rows));
+        scroll.setVisibleAmount(rows);
+        scroll.setBlockIncrement(rows);
+
+        //*** Render only the visible window ***//
+        long first = Math.min((long) scroll.getValue(), Math.max(0, total - rows));
+        StringBuilder sb = new StringBuilder();
+
+        if (first < logLines)
+        {
+            log.render(first, rows, sb);
+        }
+
+        for (long line = Math.max(first, logLines); line < Math.min(total, first + rows); line++)
+        {
+            sb.append(footer[(int) (line - logLines)]).append('\n');
+        }
+
+        area.setText(sb.toString());
+    }
+}
@@ -0,0 +1,266 @@
+//*** JavaFX UI components ***//
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.util.StringConverter;
+
+import scheduler.ExecutionSegment;
+import scheduler.PlaybackTimeline;
+import scheduler.SegmentIndex;
+
+//*** Plays a finished schedule out over time: the chart grows behind a playhead, and the status line shows what ***//
+//*** is on the CPU and who is waiting. Each frame draws only what ran since the previous one (the chart canvas ***//
+//*** is never cleared while playing; the playhead lives on a canvas of its own). A seek repaints the prefix up ***//
+//*** to the new time lane by lane, which costs the width rather than the segment count, and moves the ready ***//
+//*** queue through the timeline's snapshots. A multi-CPU run charts CPU 0's lane, as the overview does, while ***//
+//*** the status line covers every CPU ***//
+public final class GanttPlayer extends BorderPane
+{
+    private static final double LEFT = 40, TOP = 10, GAP = 4;
+    private static final double PLAY_SECONDS = 30; //*** Whole schedule at 1x, unless that is under one unit per second ***//
+    private static final int READY_SHOWN = 12;
+
+    private final SegmentIndex index;
+    private final int totalTime;
+    private final PlaybackTimeline timeline; //*** null when the run's input is not known: no ready queue then ***//
+
+    private final Canvas chart = new Canvas(900, 400), overlay = new Canvas(900, 400);
+    private final Button playBtn = new Button("\u25B6");
+    private final Slider seekBar = new Slider();
+    private final ChoiceBox<Double> speedBox = new ChoiceBox<>();
+    private final Label status = new Label();
+    private final int[] ready = new int[READY_SHOWN];
+
+    private final double scale, laneHeight;
+    private final int lanesShown;
+    private double time, drawn; //*** Playhead, and how far the chart canvas is painted ***//
+    private long lastFrame;
+    private boolean playing, moving; //*** moving: the playhead is updating the slider, not the user ***//
+
+    private final AnimationTimer timer = new AnimationTimer()
+    {
+        @Override
+        public void handle(long now)
+        {
+            double dt = lastFrame == 0 ? 0 : (now - lastFrame) / 1e9;
+            lastFrame = now;
+
+            advance(Math.min(totalTime, time + dt * rate()));
+
+            if (time >= totalTime) pause();
+        }
+    };
+
+    public GanttPlayer(SegmentIndex index, int totalTime, PlaybackTimeline timeline)
+    {
+        this.index = index;
+        this.totalTime = totalTime;
+        this.timeline = timeline;
+
+        scale = (chart.getWidth() - LEFT) / Math.max(1, totalTime);
+        laneHeight = Math.max(3, Math.min(30, (chart.getHeight() - TOP) / Math.max(1, index.lanes()) - GAP));
+        lanesShown = (int) Math.min(index.lanes(), Math.floor((chart.getHeight() - TOP + GAP) / (laneHeight + GAP)));
+
+        playBtn.setOnAction(e ->
+        {
+            if (playing) pause(); else play();
+        });
+
+        seekBar.setMin(0);
+        seekBar.setMax(totalTime);
+        HBox.setHgrow(seekBar, Priority.ALWAYS);
+        seekBar.valueProperty().addListener((obs, old, val) ->
+        {
+            if (!moving) seek(val.doubleValue());
+        });
+
+        speedBox.getItems().addAll(0.25, 0.5, 1.0, 2.0, 4.0, 16.0);
+        speedBox.setValue(1.0);
+        speedBox.setConverter(new StringConverter<>()
+        {
+            @Override
+            public String toString(Double d) { return d == null ? "" : (d == Math.rint(d) ? String.valueOf(d.intValue()) : String.valueOf(d)) + "x"; }
+
+            @Override
+            public Double fromString(String s) { return Double.valueOf(s.replace("x", "")); }
+        });
+
+        HBox controls = new HBox(10, playBtn, seekBar, speedBox);
+        controls.setAlignment(Pos.CENTER_LEFT);
+        controls.setPadding(new Insets(10));
+
+        status.setPadding(new Insets(0, 10, 10, 10));
+
+        Pane canvases = new Pane(chart, overlay);
+
+        if (lanesShown < index.lanes())
+        {
+            setTop(new Label(String.format("  Showing %d of %d lanes; the full chart has them all", lanesShown, index.lanes())));
+        }
+
+        setCenter(canvases);
+        setBottom(new VBox(controls, status));
+
+        drawLabels();
+        seek(0);
+    }
+
+    public void play()
+    {
+        if (time >= totalTime) seek(0); //*** Replay from the start ***//
+
+        playing = true;
+        lastFrame = 0;
+        playBtn.setText("\u23F8");
+        timer.start();
+    }
+
+    public void pause()
+    {
+        playing = false;
+        timer.stop();
+        playBtn.setText("\u25B6");
+        repaint(time); //*** Outlines and labels, which the frame-by-frame pieces leave out ***//
+    }
+
+    //*** Stops the timer for good (window closed) ***//
+    public void stop()
+    {
+        playing = false;
+        timer.stop();
+    }
+
+    //*** Time units per second at the chosen speed ***//
+    private double rate()
+    {
+        return Math.max(1, totalTime / PLAY_SECONDS) * speedBox.getValue();
+    }
+
+    private void seek(double t)
+    {
+        repaint(t);
+        moveTo(t);
+    }
+
+    //*** One frame: paint only (drawn, t] and move the playhead ***//
+    private void advance(double t)
+    {
+        if (t < drawn)
+        {
+            repaint(t);
+        }
+
+        else
+        {
+            GraphicsContext gc = chart.getGraphicsContext2D();
+
+            for (int l = 0; l < lanesShown; l++)
+            {
+                GanttViewport.drawLane(gc, index, l, -LEFT / scale, scale, drawn, t, laneY(l), laneHeight, GanttViewport.fill(index.laneId(l)), false);
+            }
+
+            drawn = t;
+        }
+
+        moveTo(t);
+    }
+
+    //*** Clears the chart and paints everything before t, outlined ***//
+    private void repaint(double t)
+    {
+        GraphicsContext gc = chart.getGraphicsContext2D();
+        gc.clearRect(LEFT, 0, chart.getWidth() - LEFT, chart.getHeight());
+
+        for (int l = 0; l < lanesShown; l++)
+        {
+            GanttViewport.drawLane(gc, index, l, -LEFT / scale, scale, 0, t, laneY(l), laneHeight, GanttViewport.fill(index.laneId(l)), true);
+        }
+
+        drawn = t;
+    }
+
+    private void moveTo(double t)
+    {
+        time = t;
+
+        GraphicsContext gc = overlay.getGraphicsContext2D();
+        gc.clearRect(0, 0, overlay.getWidth(), overlay.getHeight());
+        gc.setStroke(Color.RED);
+        gc.strokeLine(LEFT + t * scale, 0, LEFT + t * scale, overlay.getHeight());
+
+        moving = true;
+        seekBar.setValue(t);
+        moving = false;
+
+        status.setText(describe(t));
+    }
+
+    //*** "t=12.5/40  running P3  ready (4): P1 P5 P7 P9"; with several CPUs, "CPU0 P3  CPU1 idle ..." ***//
+    private String describe(double t)
+    {
+        StringBuilder sb = new StringBuilder(String.format("t=%.1f/%d  ", t, totalTime));
+
+        if (timeline == null)
+        {
+            int seg = index.at(t);
+            sb.append(activity(seg < 0 ? -1 : index.id(seg)));
+
+            return sb.toString();
+        }
+
+        timeline.seek(t);
+
+        if (timeline.cpus() == 1) sb.append(activity(timeline.running(0)));
+
+        else for (int c = 0; c < timeline.cpus(); c++)
+        {
+            int running = timeline.running(c);
+            sb.append(c == 0 ? "" : "  ").append("CPU").append(c).append(' ');
+            sb.append(running == -1 || running == ExecutionSegment.OVERHEAD ? activity(running) : GanttViewport.label(running));
+        }
+
+        int k = timeline.ready(ready);
+        sb.append(String.format("  ready (%d):", timeline.readyCount()));
+
+        for (int i = 0; i < k; i++) sb.append(' ').append(GanttViewport.label(ready[i]));
+
+        if (timeline.readyCount() > k) sb.append(" ...");
+
+        return sb.toString();
+    }
+
+    private static String activity(int running)
+    {
+        if (running == -1) return "idle";
+        if (running == ExecutionSegment.OVERHEAD) return "context switch";
+
+        return "running " + GanttViewport.label(running);
+    }
+
+    private double laneY(int l)
+    {
+        return TOP + l * (laneHeight + GAP);
+    }
+
+    private void drawLabels()
+    {
+        if (laneHeight < 10) return;
+
+        GraphicsContext gc = chart.getGraphicsContext2D();
+        gc.setFill(Color.DIMGRAY);
+
+        for (int l = 0; l < lanesShown; l++) gc.fillText(GanttViewport.label(index.laneId(l)), 2, laneY(l) + laneHeight / 2 + 4);
+    }
+}
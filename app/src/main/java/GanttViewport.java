@@ -0,0 +1,364 @@
+//*** JavaFX UI components ***//
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.List;
+
+import scheduler.ExecutionSegment;
+import scheduler.SegmentIndex;
+
+//*** Viewport-based full Gantt chart: the canvas is only as big as the window and only the visible ***//
+//*** time range and lanes are drawn, so schedules with millions of segments stay cheap to show ***//
+//*** One lane per process (in order of first run) under a summary lane where segments narrower than a ***//
+//*** pixel are merged per pixel column (level of detail). Hovering shows what ran under the pointer, ***//
+//*** clicking a lane selects that process and lists its totals; both are lookups in a SegmentIndex ***//
+public final class GanttViewport extends BorderPane
+{
+    private static final double LANE = 24, AXIS = 20, ROW = 40, BAR = 30;
+    private static final double MAX_SCALE = 50; //*** Pixels per time unit at full zoom ***//
+
+    private final Canvas canvas = new Canvas();
+    private final Pane canvasHolder = new Pane(canvas);
+    private final ScrollBar hbar = new ScrollBar(), vbar = new ScrollBar();
+    private final Tooltip tip = new Tooltip();
+    private final Label inspect = new Label("Click a lane to inspect a process");
+
+    private SegmentIndex index = SegmentIndex.of(List.of());
+    private int totalTime, selected = -1; //*** Selected lane, -1 for none ***//
+    private double scale = 20; //*** Pixels per time unit ***//
+    private double dragX, dragY;
+
+    public GanttViewport()
+    {
+        canvasHolder.setMinSize(0, 0);
+        canvasHolder.setPrefSize(800, 600);
+        canvas.widthProperty().bind(canvasHolder.widthProperty());
+        canvas.heightProperty().bind(canvasHolder.heightProperty());
+
+        vbar.setOrientation(Orientation.VERTICAL);
+
+        setTop(inspect);
+        setCenter(canvasHolder);
+        setBottom(hbar);
+        setRight(vbar);
+
+        canvas.widthProperty().addListener((obs, old, val) -> { updateBars(); redraw(); });
+        canvas.heightProperty().addListener((obs, old, val) -> { updateBars(); redraw(); });
+        hbar.valueProperty().addListener((obs, old, val) -> redraw());
+        vbar.valueProperty().addListener((obs, old, val) -> redraw());
+
+        //*** Wheel scrolls lanes, Shift+wheel scrolls time, Ctrl+wheel zooms around the pointer ***//
+        canvas.addEventHandler(ScrollEvent.SCROLL, e ->
+        {
+            double notches = Math.signum(e.getDeltaY() != 0 ? e.getDeltaY() : e.getDeltaX());
+
+            if (e.isControlDown())       zoom(notches > 0 ? 1.25 : 0.8, e.getX());
+            else if (e.isShiftDown())    setClamped(hbar, hbar.getValue() - notches * 60 / scale);
+            else                         setClamped(vbar, vbar.getValue() - notches * 3);
+
+            e.consume();
+        });
+
+        //*** Drag to pan in both directions ***//
+        canvas.setOnMousePressed(e -> { dragX = e.getX(); dragY = e.getY(); tip.hide(); });
+        canvas.setOnMouseDragged(e ->
+        {
+            setClamped(hbar, hbar.getValue() - (e.getX() - dragX) / scale);
+            setClamped(vbar, vbar.getValue() - (e.getY() - dragY) / ROW);
+            dragX = e.getX(); dragY = e.getY();
+        });
+
+        canvas.setOnMouseMoved(this::hover);
+        canvas.setOnMouseExited(e -> tip.hide());
+        canvas.setOnMouseClicked(e ->
+        {
+            if (e.isStillSincePress()) select(laneAt(e.getY()));
+        });
+    }
+
+    //*** Show a schedule, zoomed to fit its whole length ***//
+    public void setSchedule(List<ExecutionSegment> segments, int totalTime)
+    {
+        setSchedule(SegmentIndex.of(segments), totalTime);
+    }
+
+    public void setSchedule(SegmentIndex index, int totalTime)
+    {
+        this.index = index;
+        this.totalTime = totalTime;
+        selected = -1;
+        inspect.setText(index.lanes() + " lanes, " + index.size() + " segments. Click a lane to inspect a process");
+
+        hbar.setValue(0);
+        vbar.setValue(0);
+        fit();
+    }
+
+    public void fit()
+    {
+        scale = Math.min(MAX_SCALE, minScale());
+        updateBars();
+        redraw();
+    }
+
+    //*** Multiply the zoom, keeping the time under anchorX fixed on screen ***//
+    public void zoom(double factor, double anchorX)
+    {
+        double anchorT = hbar.getValue() + anchorX / scale;
+        scale = Math.max(minScale(), Math.min(MAX_SCALE, scale * factor));
+        updateBars();
+        setClamped(hbar, anchorT - anchorX / scale);
+        redraw();
+    }
+
+    private double minScale()
+    {
+        return totalTime == 0 ? MAX_SCALE : Math.max(1e-9, canvas.getWidth() / totalTime);
+    }
+
+    private void updateBars()
+    {
+        double span = canvas.getWidth() / scale;
+        hbar.setMin(0);
+        hbar.setMax(Math.max(0, totalTime - span));
+        hbar.setVisibleAmount(span);
+        hbar.setUnitIncrement(Math.max(1, 20 / scale));
+        setClamped(hbar, hbar.getValue());
+
+        double rows = Math.max(1, (canvas.getHeight() - LANE - AXIS) / ROW);
+        vbar.setMin(0);
+        vbar.setMax(Math.max(0, index.lanes() - rows));
+        vbar.setVisibleAmount(rows);
+        setClamped(vbar, vbar.getValue());
+    }
+
+    private static void setClamped(ScrollBar bar, double value)
+    {
+        bar.setValue(Math.max(bar.getMin(), Math.min(bar.getMax(), value)));
+    }
+
+    //*** Top of the first lane row on screen ***//
+    private double lanesTop()
+    {
+        return LANE + AXIS + 10 - (vbar.getValue() - (int) vbar.getValue()) * ROW;
+    }
+
+    //*** Lane under y, -1 between bars or past the last lane ***//
+    private int laneAt(double y)
+    {
+        double offset = y - lanesTop();
+
+        if (offset < 0 || offset % ROW > BAR) return -1;
+
+        int l = (int) vbar.getValue() + (int) (offset / ROW);
+
+        return l < index.lanes() ? l : -1;
+    }
+
+    private void redraw()
+    {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth(), height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+
+        if (totalTime == 0 || index.size() == 0) return;
+
+        double t0 = hbar.getValue();
+
+        drawSummaryLane(gc, t0, width);
+        drawAxis(gc, t0, width);
+
+        //*** Only the lanes on screen, each only over the visible time range ***//
+        int firstRow = (int) vbar.getValue();
+        int lastRow = Math.min(index.lanes() - 1, firstRow + (int) Math.ceil((height - LANE - AXIS) / ROW) + 1);
+        double top = lanesTop();
+
+        for (int l = firstRow; l <= lastRow; l++)
+        {
+            double y = top + (l - firstRow) * ROW;
+
+            if (y + BAR < LANE + AXIS) continue; //*** Scrolled under the axis ***//
+
+            drawLane(gc, index, l, t0, scale, width, y, BAR, l == selected);
+
+            gc.setFill(Color.DIMGRAY);
+            gc.fillText(label(index.laneId(l)), 2, y - 2);
+        }
+    }
+
+    //*** Draws lane l of the index from time t0 at scale pixels per unit; segments narrower than a pixel ***//
+    //*** are folded into the column they start in, so the cost follows the width, not the segment count ***//
+    static void drawLane(GraphicsContext gc, SegmentIndex index, int l, double t0, double scale, double width, double y, double h, boolean highlight)
+    {
+        drawLane(gc, index, l, t0, scale, t0 - 1 / scale, t0 + (width + 1) / scale, y, h, highlight ? Color.ORANGE : fill(index.laneId(l)), true);
+    }
+
+    //*** The part of lane l between times from and to; without outline only the fill is drawn (for pieces of a segment) ***//
+    static void drawLane(GraphicsContext gc, SegmentIndex index, int l, double t0, double scale, double from, double to, double y, double h, Color fill, boolean outline)
+    {
+        int id = index.laneId(l), size = index.laneSize(l);
+        double t = from;
+
+        for (int k = index.laneFirstEndingAfter(l, from); k < size; k = index.laneFirstEndingAfter(l, t))
+        {
+            int seg = index.laneSegment(l, k);
+
+            if (index.start(seg) >= to) break;
+
+            //*** Clamp to the range and keep sub-pixel segments visible ***//
+            double x = (Math.max(index.start(seg), from) - t0) * scale, w = Math.max(1, (Math.min(index.end(seg), to) - t0) * scale - x);
+
+            gc.setFill(fill);
+            gc.fillRect(x, y, w, h);
+
+            if (outline)
+            {
+                gc.setStroke(Color.BLACK);
+                gc.strokeRect(x, y, w, h);
+            }
+
+            if (outline && w > 24 && h >= 12)
+            {
+                gc.setFill(Color.BLACK);
+                gc.fillText(label(id), Math.max(x, 0) + 5, y + h / 2 + 4);
+            }
+
+            //*** Next pixel column at the earliest ***//
+            t = Math.max(index.end(seg), t0 + (Math.floor(x + w) + 1) / scale);
+        }
+    }
+
+    //*** One pixel column at a time: idle, a single segment, or several segments merged ***//
+    private void drawSummaryLane(GraphicsContext gc, double t0, double width)
+    {
+        int runStart = 0, runFirst = -1, runCount = 0;
+
+        for (int px = 0; px <= (int) width; px++)
+        {
+            int first = -1, count = 0;
+
+            if (px < (int) width)
+            {
+                double a = t0 + px / scale, b = t0 + (px + 1) / scale;
+                first = index.firstEndingAfter(a);                        //*** First segment ending after a ***//
+                count = Math.max(0, index.firstStartingFrom(b) - first); //*** ...up to the last starting before b ***//
+            }
+
+            boolean same = count == runCount && (count != 1 || first == runFirst);
+
+            if (!same)
+            {
+                fillLaneRun(gc, runStart, px, runFirst, runCount);
+                runStart = px;
+                runFirst = first;
+                runCount = count;
+            }
+        }
+    }
+
+    private void fillLaneRun(GraphicsContext gc, int fromPx, int toPx, int seg, int count)
+    {
+        if (count <= 0 || toPx <= fromPx) return;
+
+        gc.setFill(count == 1 ? fill(index.id(seg)) : Color.STEELBLUE);
+        gc.fillRect(fromPx, 2, toPx - fromPx, LANE - 4);
+
+        if (count == 1 && toPx - fromPx > 24)
+        {
+            gc.setFill(Color.BLACK);
+            gc.fillText(label(index.id(seg)), fromPx + 4, LANE - 8);
+        }
+    }
+
+    //*** Tooltip for the segment under the pointer: in the summary lane whatever ran, in a lane that process ***//
+    private void hover(MouseEvent e)
+    {
+        double t = hbar.getValue() + e.getX() / scale;
+        int seg = -1;
+
+        if (e.getY() < LANE)
+        {
+            seg = index.at(t);
+        }
+
+        else
+        {
+            int l = laneAt(e.getY());
+
+            if (l >= 0) seg = index.laneAt(l, t);
+        }
+
+        if (seg < 0 || totalTime == 0)
+        {
+            tip.hide();
+
+            return;
+        }
+
+        int duration = index.end(seg) - index.start(seg);
+        tip.setText(String.format("%s%nt=%d..%d (%d units)", label(index.id(seg)), index.start(seg), index.end(seg) - 1, duration));
+        tip.show(canvas, e.getScreenX() + 12, e.getScreenY() + 12);
+    }
+
+    //*** Highlights a process lane and sums it up; -1 clears the selection ***//
+    private void select(int l)
+    {
+        selected = l;
+
+        if (l < 0)
+        {
+            inspect.setText(index.lanes() + " lanes, " + index.size() + " segments. Click a lane to inspect a process");
+        }
+
+        else
+        {
+            int first = index.laneSegment(l, 0), last = index.laneSegment(l, index.laneSize(l) - 1);
+            inspect.setText(String.format("%s: %d segments, %d units on the CPU, first run at t=%d, last ends at t=%d",
+                    label(index.laneId(l)), index.laneSize(l), index.laneTime(l), index.start(first), index.end(last)));
+        }
+
+        redraw();
+    }
+
+    //*** Time axis with 1/2/5 x 10^k ticks at least 80 pixels apart ***//
+    private void drawAxis(GraphicsContext gc, double t0, double width)
+    {
+        double step = 1;
+
+        while (step * scale < 80)
+        {
+            step *= (String.valueOf((long) step).charAt(0) == '2') ? 2.5 : 2;
+        }
+
+        gc.setStroke(Color.GRAY);
+        gc.setFill(Color.BLACK);
+        gc.strokeLine(0, LANE, width, LANE);
+
+        for (double t = Math.ceil(t0 / step) * step; (t - t0) * scale <= width; t += step)
+        {
+            double x = (t - t0) * scale;
+            gc.strokeLine(x, LANE, x, LANE + 5);
+            gc.fillText(String.valueOf((long) t), x + 2, LANE + AXIS - 4);
+        }
+    }
+
+    //*** Context-switch overhead is drawn apart from the processes ***//
+    static Color fill(int id)
+    {
+        return id == ExecutionSegment.OVERHEAD ? Color.SALMON : Color.LIGHTBLUE;
+    }
+
+    static String label(int id)
+    {
+        return id == ExecutionSegment.OVERHEAD ? "CS" : "P" + id;
+    }
+}
@@ -0,0 +1,209 @@
+//*** JavaFX collections ***//
+import javafx.collections.ObservableListBase;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import scheduler.Workload;
+
+//*** Process table contents as three growable int columns; the TableView's items are just row positions, ***//
+//*** so it only asks for the rows on screen and no per-row object ever exists. Bulk edits fire one change ***//
+//*** event each, and sorting permutes the columns in place (stable, so sorting column by column stacks up) ***//
+public class ProcessTableModel extends ObservableListBase<Integer>
+{
+    public enum Column { ID, ARRIVAL, BURST }
+
+    private int[] ids = new int[16], arrivals = new int[16], bursts = new int[16];
+    private int size;
+    private Workload snapshot; //*** Contents as a Workload, dropped on every edit so its fingerprint stays cached until then ***//
+
+    @Override public int size() { return size; }
+
+    //*** Row handle = position; cell value factories read the columns through it ***//
+    @Override
+    public Integer get(int row)
+    {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException(row);
+
+        return row;
+    }
+
+    public int id(int row) { return ids[row]; }
+    public int arrival(int row) { return arrivals[row]; }
+    public int burst(int row) { return bursts[row]; }
+
+    public int value(Column c, int row)
+    {
+        return switch (c)
+        {
+            case ID -> ids[row];
+            case ARRIVAL -> arrivals[row];
+            case BURST -> bursts[row];
+        };
+    }
+
+    //*** Immutable view of the rows, rebuilt only after an edit ***//
+    public Workload snapshot()
+    {
+        if (snapshot == null) snapshot = Workload.of(ids, arrivals, bursts, size);
+
+        return snapshot;
+    }
+
+    public void add(int id, int arrival, int burst)
+    {
+        ensure(size + 1);
+        ids[size] = id;
+        arrivals[size] = arrival;
+        bursts[size] = burst;
+        size++;
+        snapshot = null;
+
+        beginChange();
+        nextAdd(size - 1, size);
+        endChange();
+    }
+
+    //*** Appends every row of w as one change ***//
+    public void addAll(Workload w)
+    {
+        int from = size, n = w.size();
+
+        if (n == 0) return;
+
+        ensure(size + n);
+
+        for (int i = 0; i < n; i++)
+        {
+            ids[from + i] = w.id(i);
+            arrivals[from + i] = w.arrival(i);
+            bursts[from + i] = w.burst(i);
+        }
+
+        size += n;
+        snapshot = from == 0 ? w : null; //*** Loaded into an empty table: the rows are exactly w ***//
+
+        beginChange();
+        nextAdd(from, size);
+        endChange();
+    }
+
+    @Override
+    public Integer remove(int row)
+    {
+        get(row);
+        removeRows(new int[] { row });
+
+        return row;
+    }
+
+    //*** Removes the given rows (any order, duplicates ignored) in one compaction pass and one change ***//
+    public void removeRows(int[] rows)
+    {
+        int[] sorted = rows.clone();
+        Arrays.sort(sorted);
+
+        int write = 0, next = 0, runs = 0;
+        int[] runStart = new int[sorted.length], runLength = new int[sorted.length]; //*** Positions before the removal ***//
+
+        for (int read = 0; read < size; read++)
+        {
+            if (next < sorted.length && sorted[next] == read)
+            {
+                if (runs > 0 && runStart[runs - 1] + runLength[runs - 1] == read) runLength[runs - 1]++;
+                else { runStart[runs] = read; runLength[runs++] = 1; }
+
+                while (next < sorted.length && sorted[next] == read) next++;
+
+                continue;
+            }
+
+            ids[write] = ids[read];
+            arrivals[write] = arrivals[read];
+            bursts[write] = bursts[read];
+            write++;
+        }
+
+        if (runs == 0) return;
+
+        size = write;
+        snapshot = null;
+
+        //*** Runs are reported last to first, so the rows before each one have not moved yet when it is applied ***//
+        beginChange();
+
+        for (int r = runs - 1; r >= 0; r--) nextRemove(runStart[r], rows(runStart[r], runLength[r]));
+
+        endChange();
+    }
+
+    @Override
+    public void clear()
+    {
+        if (size == 0) return;
+
+        int old = size;
+        size = 0;
+        snapshot = null;
+
+        beginChange();
+        nextRemove(0, rows(0, old));
+        endChange();
+    }
+
+    //*** Stable sort on one column; ties keep their current order ***//
+    public void sort(Column c, boolean ascending)
+    {
+        long[] keys = new long[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            int v = value(c, i);
+            keys[i] = ((long) (ascending ? v : ~v) << 32) | i; //*** ~v reverses the order without overflow ***//
+        }
+
+        Arrays.sort(keys);
+
+        int[] perm = new int[size], newIds = new int[ids.length], newArrivals = new int[ids.length], newBursts = new int[ids.length];
+
+        for (int to = 0; to < size; to++)
+        {
+            int from = (int) keys[to];
+            perm[from] = to;
+            newIds[to] = ids[from];
+            newArrivals[to] = arrivals[from];
+            newBursts[to] = bursts[from];
+        }
+
+        ids = newIds;
+        arrivals = newArrivals;
+        bursts = newBursts;
+        snapshot = null;
+
+        beginChange();
+        nextPermutation(0, size, perm);
+        endChange();
+    }
+
+    //*** The removed elements, which were their own positions, without boxing them all up front ***//
+    private static List<Integer> rows(int from, int n)
+    {
+        return new AbstractList<>()
+        {
+            @Override public Integer get(int i) { return from + Objects.checkIndex(i, n); }
+            @Override public int size() { return n; }
+        };
+    }
+
+    private void ensure(int capacity)
+    {
+        if (capacity <= ids.length) return;
+
+        int cap = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, cap);
+        arrivals = Arrays.copyOf(arrivals, cap);
+        bursts = Arrays.copyOf(bursts, cap);
+    }
+}
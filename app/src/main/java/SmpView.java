@@ -0,0 +1,37 @@
+//*** JavaFX UI components ***//
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.VBox;
+
+import scheduler.SmpResult;
+
+//*** One Gantt lane per simulated CPU, under a summary of the multi-CPU metrics ***//
+public final class SmpView extends BorderPane
+{
+    public SmpView(SmpResult res)
+    {
+        Label summary = new Label(String.format("Avg WT=%.2f   p50 WT=%.0f   p99 WT=%.0f   max WT=%.0f   Avg TAT=%.2f   CPU Util=%.2f%%   Throughput=%.4f proc/unit   Migrations=%d",
+                res.avgWT, res.p50WT, res.p99WT, res.maxWT, res.avgTAT, res.cpuUtil * 100, res.throughput, res.migrations));
+        summary.setPadding(new Insets(10));
+
+        VBox lanes = new VBox(10);
+        lanes.setPadding(new Insets(10));
+
+        for (int c = 0; c < res.cpus; c++)
+        {
+            GanttViewport viewport = new GanttViewport();
+            viewport.setPrefHeight(160);
+            viewport.setSchedule(res.lanes.get(c), res.totalTime);
+            lanes.getChildren().addAll(new Label(String.format("CPU %d (%.1f%% busy):", c, res.coreUtil[c] * 100)), viewport);
+        }
+
+        ScrollPane scroll = new ScrollPane(lanes);
+        scroll.setFitToWidth(true);
+
+        setTop(summary);
+        setCenter(scroll);
+        setPrefSize(860, 700);
+    }
+}
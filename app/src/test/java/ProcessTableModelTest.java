@@ -0,0 +1,80 @@
+import javafx.collections.ListChangeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProcessTableModelTest
+{
+    //*** Table with ids 0, 10, 20, ... and a mirror that only learns about edits through change events ***//
+    private static ProcessTableModel table(int n, List<Integer> mirror)
+    {
+        ProcessTableModel model = new ProcessTableModel();
+
+        for (int i = 0; i < n; i++) model.add(i * 10, i, 1);
+
+        mirror.clear();
+
+        for (int i = 0; i < n; i++) mirror.add(i * 10);
+
+        return model;
+    }
+
+    //*** Applies every removal to mirror and records it as "from:removed" ***//
+    private static List<String> replay(ProcessTableModel model, List<Integer> mirror)
+    {
+        List<String> changes = new ArrayList<>();
+
+        model.addListener((ListChangeListener<Integer>) c ->
+        {
+            while (c.next())
+            {
+                changes.add(c.getFrom() + ":" + c.getRemoved());
+
+                for (int k = 0; k < c.getRemovedSize(); k++) mirror.remove(c.getFrom());
+            }
+        });
+
+        return changes;
+    }
+
+    private static List<Integer> ids(ProcessTableModel model)
+    {
+        List<Integer> ids = new ArrayList<>();
+
+        for (int i = 0; i < model.size(); i++) ids.add(model.id(i));
+
+        return ids;
+    }
+
+    @Test
+    void removingSeparateRowsReportsEachAtItsPosition()
+    {
+        List<Integer> mirror = new ArrayList<>();
+        ProcessTableModel model = table(6, mirror);
+        List<String> changes = replay(model, mirror);
+
+        model.removeRows(new int[] { 3, 1 });
+
+        assertEquals(List.of("1:[1]", "2:[3]"), changes);
+        assertEquals(List.of(0, 20, 40, 50), ids(model));
+        assertEquals(ids(model), mirror);
+    }
+
+    @Test
+    void adjacentRowsAreOneRun()
+    {
+        List<Integer> mirror = new ArrayList<>();
+        ProcessTableModel model = table(8, mirror);
+        List<String> changes = replay(model, mirror);
+
+        model.removeRows(new int[] { 6, 2, 3, 3, 0, 7 });
+
+        assertEquals(List.of("0:[0]", "1:[2, 3]", "3:[6, 7]"), changes);
+        assertEquals(List.of(10, 40, 50), ids(model));
+        assertEquals(ids(model), mirror);
+    }
+}
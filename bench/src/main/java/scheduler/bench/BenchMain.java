@@ -0,0 +1,21 @@
+package scheduler.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+//*** JMH entry point that always attaches the GC profiler, so every result carries an allocation rate ***//
+//*** (gc.alloc.rate / gc.alloc.rate.norm) next to the throughput. Accepts the usual JMH arguments. ***//
+public class BenchMain
+{
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException
+    {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package scheduler.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import scheduler.CfsScheduler;
+import scheduler.EventLog;
+import scheduler.HRRNScheduler;
+import scheduler.MlfqScheduler;
+import scheduler.ProgressListener;
+import scheduler.SRTFScheduler;
+import scheduler.ScheduleResult;
+import scheduler.SchedulerScratch;
+import scheduler.Workload;
+import scheduler.WorkloadGenerator;
+
+//*** Throughput of one full schedule() call per scheduler, metrics-only (log off) as in batch runs ***//
+//*** Workloads are generated once per trial from a fixed seed, so runs are comparable across commits ***//
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SchedulerBenchmark
+{
+    @Param({ "1000", "100000", "1000000", "10000000" })
+    public int processes;
+
+    @Param({ "UNIFORM", "POISSON", "BURSTY" })
+    public WorkloadGenerator.Arrivals arrivals;
+
+    @Param({ "EXPONENTIAL", "HEAVY_TAILED" })
+    public WorkloadGenerator.Bursts bursts;
+
+    @Param("0.9")
+    public double load;
+
+    @Param("10")
+    public double meanBurst;
+
+    private Workload workload;
+    private SchedulerScratch scratch;
+    private final CfsScheduler cfs = new CfsScheduler();
+    private final MlfqScheduler mlfq = new MlfqScheduler();
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        workload = WorkloadGenerator.generate(processes, arrivals, bursts, meanBurst, load, 42);
+        scratch = new SchedulerScratch();
+    }
+
+    @Benchmark
+    public ScheduleResult srtf()
+    {
+        return SRTFScheduler.schedule(workload, scratch, EventLog.Verbosity.OFF);
+    }
+
+    @Benchmark
+    public ScheduleResult hrrn()
+    {
+        return HRRNScheduler.schedule(workload, scratch, EventLog.Verbosity.OFF);
+    }
+
+    @Benchmark
+    public ScheduleResult cfs()
+    {
+        return cfs.run(workload, scratch, EventLog.Verbosity.OFF, ProgressListener.NONE);
+    }
+
+    @Benchmark
+    public ScheduleResult mlfq()
+    {
+        return mlfq.run(workload, scratch, EventLog.Verbosity.OFF, ProgressListener.NONE);
+    }
+}
@@ -0,0 +1,190 @@
+package scheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+//*** Immutable workload whose processes alternate CPU and I/O bursts: CPU, I/O, CPU, ..., CPU ***//
+//*** Bursts are stored flat (CSR layout): process i owns burst slots offsets[i] .. offsets[i + 1] - 1, ***//
+//*** even slots are CPU bursts, odd slots I/O bursts on device devices[slot] ***//
+public class BurstWorkload
+{
+    private final int[] ids, arrivals, offsets, lengths, devices;
+    private final int deviceCount;
+    private int[] order; //*** Lazily built: rows sorted by arrival (stable) ***//
+
+    private BurstWorkload(int[] ids, int[] arrivals, int[] offsets, int[] lengths, int[] devices)
+    {
+        this.ids = ids;
+        this.arrivals = arrivals;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.devices = devices;
+
+        int max = -1;
+
+        for (int i = 0; i < ids.length; i++)
+        {
+            for (int s = offsets[i] + 1; s < offsets[i + 1]; s += 2) max = Math.max(max, devices[s]);
+        }
+
+        this.deviceCount = max + 1;
+    }
+
+    //*** One CPU burst per process, no I/O; rows with a non-positive burst are left out as in batch runs ***//
+    public static BurstWorkload of(Workload w)
+    {
+        Builder b = new Builder();
+
+        for (int i = 0; i < w.size(); i++)
+        {
+            if (w.burst(i) > 0) b.add(w.id(i), w.arrival(i), new int[] { w.burst(i) }, new int[1]);
+        }
+
+        return b.build();
+    }
+
+    //*** CSV rows "id,arrival,cpu[,device:io,cpu]..." e.g. "1,0,5,0:3,2" = 5 on the CPU, 3 on device 0, 2 on the CPU ***//
+    //*** Plain "id,arrival,burst" rows are single-burst processes; malformed or non-positive rows are skipped ***//
+    public static BurstWorkload read(Reader in) throws IOException
+    {
+        BufferedReader br = new BufferedReader(in);
+        Builder b = new Builder();
+        String line;
+
+        while ((line = br.readLine()) != null)
+        {
+            String[] cols = line.split(",");
+
+            if (cols.length < 3 || cols.length % 2 == 0) continue; //*** Must end on a CPU burst ***//
+
+            int bursts = cols.length - 2;
+            int[] lengths = new int[bursts], devices = new int[bursts];
+
+            try
+            {
+                int id = Integer.parseInt(cols[0].trim());
+                int arrival = Integer.parseInt(cols[1].trim());
+
+                for (int k = 0; k < bursts; k++)
+                {
+                    String c = cols[k + 2].trim();
+
+                    if (k % 2 == 0)
+                    {
+                        lengths[k] = Integer.parseInt(c);
+                    }
+
+                    else
+                    {
+                        int colon = c.indexOf(':');
+                        devices[k] = Integer.parseInt(c.substring(0, colon).trim()); //*** No colon: -1, caught below ***//
+                        lengths[k] = Integer.parseInt(c.substring(colon + 1).trim());
+                    }
+                }
+
+                b.add(id, arrival, lengths, devices);
+            }
+
+            catch (IllegalArgumentException | StringIndexOutOfBoundsException ex)
+            {
+                //*** Skip rows with invalid numbers or burst shapes ***//
+            }
+        }
+
+        return b.build();
+    }
+
+    public int size() { return ids.length; }
+    public int id(int i) { return ids[i]; }
+    public int arrival(int i) { return arrivals[i]; }
+    public int bursts(int i) { return offsets[i + 1] - offsets[i]; }
+    public int burst(int i, int k) { return lengths[offsets[i] + k]; }
+    public int device(int i, int k) { return devices[offsets[i] + k]; } //*** Odd k only ***//
+    public int devices() { return deviceCount; }
+
+    //*** Total CPU and I/O time of process i ***//
+    public int service(int i)
+    {
+        int sum = 0;
+
+        for (int s = offsets[i]; s < offsets[i + 1]; s++) sum += lengths[s];
+
+        return sum;
+    }
+
+    //*** Rows in arrival order, ties kept in input order ***//
+    int[] order()
+    {
+        int[] o = order;
+
+        if (o == null)
+        {
+            long[] keys = new long[ids.length];
+
+            for (int i = 0; i < ids.length; i++) keys[i] = ((long) arrivals[i] << 32) | i;
+
+            Arrays.sort(keys);
+            o = new int[ids.length];
+
+            for (int k = 0; k < o.length; k++) o[k] = (int) keys[k];
+
+            order = o; //*** Benign race: every thread computes the same array ***//
+        }
+
+        return o;
+    }
+
+    //*** Appends processes; arrays grow by doubling ***//
+    public static class Builder
+    {
+        private int[] ids = new int[16], arrivals = new int[16], offsets = new int[17], lengths = new int[32], devices = new int[32];
+        private int rows, slots;
+
+        //*** lengths alternate CPU / I/O and must have odd length; devices[k] is read for odd k ***//
+        public Builder add(int id, int arrival, int[] burstLengths, int[] burstDevices)
+        {
+            if (burstLengths.length % 2 == 0 || burstDevices.length != burstLengths.length)
+            {
+                throw new IllegalArgumentException("process " + id + ": bursts must alternate CPU and I/O, starting and ending on the CPU");
+            }
+
+            for (int k = 0; k < burstLengths.length; k++)
+            {
+                if (burstLengths[k] <= 0 || (k % 2 == 1 && burstDevices[k] < 0))
+                {
+                    throw new IllegalArgumentException("process " + id + ": burst " + k + " needs a positive length and a device >= 0");
+                }
+            }
+
+            if (rows == ids.length)
+            {
+                ids = Arrays.copyOf(ids, rows * 2);
+                arrivals = Arrays.copyOf(arrivals, rows * 2);
+                offsets = Arrays.copyOf(offsets, rows * 2 + 1);
+            }
+
+            while (slots + burstLengths.length > lengths.length)
+            {
+                lengths = Arrays.copyOf(lengths, lengths.length * 2);
+                devices = Arrays.copyOf(devices, devices.length * 2);
+            }
+
+            ids[rows] = id;
+            arrivals[rows] = arrival;
+            System.arraycopy(burstLengths, 0, lengths, slots, burstLengths.length);
+            System.arraycopy(burstDevices, 0, devices, slots, burstDevices.length);
+            slots += burstLengths.length;
+            offsets[++rows] = slots;
+
+            return this;
+        }
+
+        public BurstWorkload build()
+        {
+            return new BurstWorkload(Arrays.copyOf(ids, rows), Arrays.copyOf(arrivals, rows), Arrays.copyOf(offsets, rows + 1),
+                    Arrays.copyOf(lengths, slots), Arrays.copyOf(devices, slots));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Completely Fair Scheduler, single CPU, all tasks at the default weight (vruntime advances 1:1 with run time) ***//
+//*** The run queue is an ordered tree keyed by (vruntime, arrival position); the leftmost task runs for a slice of ***//
+//*** targetLatency / nr_running, never shorter than minGranularity. New tasks start at min_vruntime and preempt the ***//
+//*** current task when it is more than wakeupGranularity ahead of them. Defaults follow Linux's 6 / 0.75 / 1 ms ***//
+//*** with one time unit read as 1 ms; the timeline is in whole units, so minGranularity rounds up to 1 ***//
+public class CfsScheduler implements Scheduler
+{
+    private final int targetLatency, minGranularity, wakeupGranularity;
+
+    public CfsScheduler()
+    {
+        this(6, 1, 1);
+    }
+
+    public CfsScheduler(int targetLatency, int minGranularity, int wakeupGranularity)
+    {
+        if (targetLatency < 1 || minGranularity < 1 || wakeupGranularity < 0)
+        {
+            throw new IllegalArgumentException("CFS needs targetLatency >= 1, minGranularity >= 1, wakeupGranularity >= 0");
+        }
+
+        this.targetLatency = targetLatency;
+        this.minGranularity = minGranularity;
+        this.wakeupGranularity = wakeupGranularity;
+    }
+
+    @Override
+    public String name() { return "CFS"; }
+
+    @Override
+    public String parameters() { return "latency=" + targetLatency + ",min=" + minGranularity + ",wakeup=" + wakeupGranularity; }
+
+    //*** Event-driven: re-decides at arrivals, slice ends and completions ***//
+    @Override
+    public ScheduleResult run(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        int[] order = w.order(); //*** Zero-length jobs are left out, the rest sorted by arrival time ***//
+        int n = order.length;
+
+        if (n == 0)
+        {
+            return new ScheduleResult(Collections.emptyList(), new EventLog(verbosity, "--- CFS Scheduling ---", "(no jobs)"), 0, 0, 0, 0, 0);
+        }
+
+        int[] ids = w.ids(), arrivals = w.arrivals(), bursts = w.bursts();
+        s.prepare(w.size(), n);
+        int[] rem = s.remaining;
+        int[] vruntime = s.vruntime = SchedulerScratch.ensure(s.vruntime, n);
+
+        for (int k = 0; k < n; k++) rem[k] = bursts[order[k]];
+
+        IntTree tree = s.timeline;
+        tree.reset(n);
+
+        int time = 0, completed = 0, busy = 0, nextArrivalIdx = 0;
+        int cur = -1, sliceEnd = 0, minVruntime = 0;
+        double totalWT = 0, totalTAT = 0;
+        LatencyStats latency = new LatencyStats();
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+
+        List<ExecutionSegment> segs = new ArrayList<>();
+        EventLog log = new EventLog(verbosity, "--- CFS Scheduling ---");
+        SchedulerProbe probe = SchedulerProbe.start("CFS", n);
+
+        int lastPid = -1, lastRem = 0;
+
+        while (completed < n)
+        {
+            //*** Admit arrivals at min_vruntime; one far enough behind the current task preempts it ***//
+            while (nextArrivalIdx < n && arrivals[order[nextArrivalIdx]] <= time)
+            {
+                int k = nextArrivalIdx++;
+                vruntime[k] = minVruntime;
+                tree.add(k, key(vruntime[k], k));
+
+                if (cur >= 0 && vruntime[cur] - vruntime[k] > wakeupGranularity)
+                {
+                    tree.add(cur, key(vruntime[cur], cur));
+                    cur = -1;
+                }
+            }
+
+            probe.queueDepth(time, tree.size());
+
+            boolean sampled = false;
+            long selectStart = 0;
+
+            if (cur < 0)
+            {
+                if (tree.isEmpty())
+                {
+                    time = arrivals[order[nextArrivalIdx]]; //*** Idle CPU, jump to next arrival ***//
+
+                    continue;
+                }
+
+                sampled = probe.sampleDispatch();
+                selectStart = sampled ? System.nanoTime() : 0;
+                cur = tree.pollFirst(); //*** Leftmost: smallest vruntime ***//
+                sliceEnd = time + Math.max(minGranularity, targetLatency / (tree.size() + 1));
+            }
+
+            int row = order[cur], pid = ids[row];
+            int run = Math.min(rem[cur], sliceEnd - time);
+
+            if (nextArrivalIdx < n)
+            {
+                run = Math.min(run, arrivals[order[nextArrivalIdx]] - time);
+            }
+
+            long logStart = sampled ? System.nanoTime() : 0;
+            boolean isStart = rem[cur] == bursts[row];
+
+            if (isStart) latency.started(arrivals[row], time);
+
+            if (log.enabled())
+            {
+                boolean isInterrupted = lastPid != -1 && pid != lastPid && lastRem > 0;
+                boolean isResuming = !isStart && !isInterrupted && pid != lastPid;
+                boolean wasEnd = rem[cur] == run;
+
+                int flags = (isStart ? EventLog.START : 0) | (isInterrupted ? EventLog.INTERRUPT : 0)
+                        | (isResuming ? EventLog.RESUME : 0) | (wasEnd ? EventLog.END : 0);
+
+                log.slice(flags, time, pid, run, lastPid);
+
+                lastPid = pid;
+                lastRem = rem[cur] - run;
+            }
+
+            if (sampled) probe.dispatched(selectStart, logStart, time, pid, tree.size());
+
+            //*** Record execution segment for Gantt chart ***//
+            if (!segs.isEmpty() && segs.getLast().id == pid && segs.getLast().start + segs.getLast().duration == time)
+            {
+                segs.getLast().duration += run;
+            }
+
+            else
+            {
+                segs.add(new ExecutionSegment(pid, time, run));
+            }
+
+            rem[cur] -= run;
+            vruntime[cur] += run;
+            busy += run;
+            time += run;
+
+            //*** min_vruntime only moves forward, tracking the smallest vruntime still runnable ***//
+            int smallest = tree.isEmpty() ? vruntime[cur] : Math.min(vruntime[cur], (int) (tree.firstKey() >>> 32));
+            minVruntime = Math.max(minVruntime, smallest);
+
+            if (rem[cur] == 0)
+            {
+                completed++;
+                s.completion[row] = time;
+                int tat = time - arrivals[row];
+                int wt  = tat - bursts[row];
+                totalTAT += tat;
+                totalWT  += wt;
+                latency.completed(arrivals[row], bursts[row], time);
+                cur = -1;
+
+                if (completed == nextReport || completed == n)
+                {
+                    probe.progress(time, completed);
+                    progress.progress(completed, n);
+                    nextReport += reportEvery;
+                }
+            }
+
+            else if (time >= sliceEnd)
+            {
+                tree.add(cur, key(vruntime[cur], cur)); //*** Slice used up, back in the tree ***//
+                cur = -1;
+            }
+        }
+
+        //*** Calculate metrics ***//
+        double avgWT      = totalWT / n;
+        double avgTAT     = totalTAT / n;
+        double cpuUtil    = (double) busy / time;
+        double throughput = (double) n / time;
+
+        ScheduleResult res = new ScheduleResult(segs, log, avgWT, avgTAT, cpuUtil, throughput, time, latency);
+        probe.finish(res);
+
+        return res;
+    }
+
+    //*** Tree key: vruntime first, earlier arrival breaks ties ***//
+    private static long key(int vruntime, int position)
+    {
+        return ((long) vruntime << 32) | position;
+    }
+}
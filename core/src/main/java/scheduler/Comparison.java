@@ -0,0 +1,54 @@
+package scheduler;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+//*** Runs several schedulers on the same workload concurrently on a ForkJoinPool ***//
+//*** Each run gets its own scratch; the immutable Workload is shared ***//
+public class Comparison
+{
+    //*** Results in the order of algos; progress sees the completions summed over all runs ***//
+    public static Map<Scheduler, ScheduleResult> runAll(Workload w, List<Scheduler> algos, EventLog.Verbosity verbosity,
+                                                        ProgressListener progress, ForkJoinPool pool) throws InterruptedException
+    {
+        w.order(); //*** Build the shared arrival order once, before fanning out ***//
+
+        int total = w.order().length * algos.size();
+        AtomicLong done = new AtomicLong();
+        List<Callable<ScheduleResult>> runs = new ArrayList<>();
+
+        for (Scheduler algo : algos)
+        {
+            int[] last = new int[1]; //*** Completions this run has already reported ***//
+
+            runs.add(() -> algo.run(w, new SchedulerScratch(), verbosity, (completed, n) ->
+            {
+                long sum = done.addAndGet(completed - last[0]);
+                last[0] = completed;
+                progress.progress((int) sum, total);
+            }));
+        }
+
+        List<Future<ScheduleResult>> futures = pool.invokeAll(runs);
+        Map<Scheduler, ScheduleResult> results = new LinkedHashMap<>();
+
+        for (int i = 0; i < algos.size(); i++)
+        {
+            try
+            {
+                results.put(algos.get(i), futures.get(i).get());
+            }
+
+            catch (ExecutionException ex)
+            {
+                //*** Surface the run's own failure (including a listener's CancellationException) ***//
+                if (ex.getCause() instanceof RuntimeException re) throw re;
+
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,66 @@
+package scheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+//*** Reads process rows (id, arrival, burst) from CSV text; shared by the UI import and the batch CLI ***//
+public class CsvWorkload
+{
+    //*** Receives one parsed row at a time ***//
+    @FunctionalInterface
+    public interface RowSink
+    {
+        void row(int id, int arrival, int burst);
+    }
+
+    //*** Rows with fewer than three columns or malformed numbers are skipped ***//
+    public static List<Process> read(Reader in) throws IOException
+    {
+        List<Process> rows = new ArrayList<>();
+        stream(in, (id, arrival, burst) -> rows.add(new Process(id, arrival, burst)));
+
+        return rows;
+    }
+
+    //*** Same parsing as read, handing each row over as soon as its line is complete (pipes, tailed files) ***//
+    public static void stream(Reader in, RowSink sink) throws IOException
+    {
+        stream(in, sink, () -> { });
+    }
+
+    //*** As above; beforeWait runs whenever the next line is not buffered yet, i.e. before a read that may block ***//
+    public static void stream(Reader in, RowSink sink, Runnable beforeWait) throws IOException
+    {
+        BufferedReader br = new BufferedReader(in);
+        String line;
+
+        while (true)
+        {
+            if (!br.ready()) beforeWait.run();
+
+            if ((line = br.readLine()) == null) break;
+
+            String[] cols = line.split(",");  //*** Split CSV line ***//
+
+            if (cols.length < 3) continue;     //*** Skip incomplete rows ***//
+
+            int id, arrival, burst;
+
+            try
+            {
+                id = Integer.parseInt(cols[0].trim());
+                arrival = Integer.parseInt(cols[1].trim());
+                burst = Integer.parseInt(cols[2].trim());
+            }
+
+            catch (NumberFormatException ex)
+            {
+                continue; //*** Skip rows with invalid numbers ***//
+            }
+
+            sink.row(id, arrival, burst); //*** Outside the try, so a sink's own exceptions are not swallowed ***//
+        }
+    }
+}
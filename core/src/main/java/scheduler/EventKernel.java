@@ -0,0 +1,431 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Discrete-event simulation of one CPU and any number of I/O devices for processes with CPU / I/O burst sequences ***//
+//*** A time-ordered event queue holds arrivals, CPU burst completions and I/O completions; after all events at one ***//
+//*** instant are handled the policy picks the CPU's job. A process finishing a CPU burst blocks on its next device, ***//
+//*** which serves its queue first come, first served, then wakes it into the ready queue for its next CPU burst ***//
+//*** SRTF preempts on the remaining time of the current CPU burst, HRRN runs each CPU burst to completion and ***//
+//*** measures the wait from the moment the process last became ready. With single-burst processes both reproduce ***//
+//*** the batch schedulers' decisions and metrics ***//
+public class EventKernel
+{
+    private static final int ARRIVAL = 0, CPU_DONE = 1, IO_DONE = 2;
+
+    public static IoResult run(BurstWorkload w, StreamingScheduler.Policy policy, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        return new EventKernel(w, policy, verbosity).simulate(progress);
+    }
+
+    private final BurstWorkload w;
+    private final StreamingScheduler.Policy policy;
+    private final int n;
+    private final int[] order;
+    private final String title;
+
+    //*** Per process, indexed by arrival position ***//
+    private final int[] ids, phase, rem, readySince, readyWait, queuedAt, queueSeq, gen;
+
+    //*** Event queue: slot handles ordered by (time, insertion) ***//
+    private final IntHeap events = new IntHeap();
+    private int[] evTime = new int[64], evKind = new int[64], evProc = new int[64], evGen = new int[64];
+    private long[] evSeq = new long[64];
+    private int[] freeSlots = new int[64];
+    private int slotCount, freeCount;
+    private long nextSeq;
+
+    //*** Ready queue: one heap for SRTF, burst-length buckets for HRRN (as in the batch scheduler) ***//
+    private final IntHeap ready = new IntHeap();
+    private final Map<Integer, IntHeap> bucketOf = new HashMap<>();
+    private final List<IntHeap> active = new ArrayList<>();
+
+    //*** Devices: FIFO queue, job in service (-1 idle), busy time and Gantt lane each ***//
+    private final IntHeap[] deviceQueue;
+    private final int[] deviceCur;
+    private final long[] deviceBusy;
+    private final List<List<ExecutionSegment>> deviceLanes = new ArrayList<>();
+    private int busyDevices, blocked;
+
+    private final List<ExecutionSegment> segs = new ArrayList<>();
+    private final EventLog log;
+    private final LatencyStats latency = new LatencyStats();
+    private int time, cur = -1, segStart, nextArrival, completed, queued, lastPid = -1, lastRem;
+    private long busy, overlap, totalWT, totalTAT, totalDeviceWait;
+
+    private EventKernel(BurstWorkload w, StreamingScheduler.Policy policy, EventLog.Verbosity verbosity)
+    {
+        this.w = w;
+        this.policy = policy;
+        this.order = w.order();
+        this.n = order.length;
+        this.title = w.devices() == 0 ? "--- " + policy + " Scheduling ---"
+                : "--- " + policy + " Scheduling with I/O (" + w.devices() + (w.devices() == 1 ? " device" : " devices") + ") ---";
+        this.log = new EventLog(verbosity, title);
+
+        ids = new int[n];
+        phase = new int[n];
+        rem = new int[n];
+        readySince = new int[n];
+        readyWait = new int[n];
+        queuedAt = new int[n];
+        queueSeq = new int[n];
+        gen = new int[n];
+
+        for (int k = 0; k < n; k++) ids[k] = w.id(order[k]);
+
+        events.reset((a, b) -> evTime[a] != evTime[b] ? Integer.compare(evTime[a], evTime[b]) : Long.compare(evSeq[a], evSeq[b]));
+
+        //*** Same orders as the batch schedulers; the arrival position settles exact duplicates ***//
+        ready.reset((a, b) ->
+        {
+            if (rem[a] != rem[b]) return Integer.compare(rem[a], rem[b]);
+            if (ids[a] != ids[b]) return Integer.compare(ids[a], ids[b]);
+
+            return Integer.compare(a, b);
+        });
+
+        deviceQueue = new IntHeap[w.devices()];
+        deviceCur = new int[w.devices()];
+        deviceBusy = new long[w.devices()];
+        Arrays.fill(deviceCur, -1);
+
+        for (int d = 0; d < deviceQueue.length; d++)
+        {
+            deviceQueue[d] = new IntHeap();
+            deviceQueue[d].reset((a, b) -> queuedAt[a] != queuedAt[b] ? Integer.compare(queuedAt[a], queuedAt[b]) : Integer.compare(queueSeq[a], queueSeq[b]));
+            deviceLanes.add(new ArrayList<>());
+        }
+    }
+
+    private IoResult simulate(ProgressListener progress)
+    {
+        if (n == 0)
+        {
+            return new IoResult(Collections.emptyList(), new EventLog(log.verbosity(), title, "(no jobs)"), 0, 0, 0, 0, 0, latency,
+                    deviceLanes, new double[deviceQueue.length], 0, 0);
+        }
+
+        SchedulerProbe probe = SchedulerProbe.start(policy + " (I/O)", n);
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+
+        scheduleArrival();
+
+        while (completed < n)
+        {
+            advanceTo(evTime[events.peek()]);
+
+            //*** Every event at this instant first, then one scheduling decision ***//
+            while (!events.isEmpty() && evTime[events.peek()] == time)
+            {
+                int e = events.poll();
+                int kind = evKind[e], k = evProc[e], g = evGen[e];
+                freeSlots[freeCount++] = e;
+
+                if (kind == ARRIVAL)
+                {
+                    scheduleArrival();
+                    rem[k] = w.burst(order[k], 0);
+                    makeReady(k);
+                }
+
+                else if (kind == CPU_DONE)
+                {
+                    if (k != cur || g != gen[k]) continue; //*** Preempted since: stale completion ***//
+
+                    closeSegment();
+                    cur = -1;
+
+                    if (++phase[k] == w.bursts(order[k])) finish(k);
+                    else block(k, w.device(order[k], phase[k]));
+                }
+
+                else
+                {
+                    int d = g;
+                    deviceCur[d] = -1;
+                    busyDevices--;
+                    phase[k]++;
+                    rem[k] = w.burst(order[k], phase[k]);
+                    makeReady(k);
+                    serve(d);
+                }
+            }
+
+            probe.queueDepth(time, queued);
+            dispatch(probe);
+
+            if (completed >= nextReport || completed == n)
+            {
+                probe.progress(time, completed);
+                progress.progress(completed, n);
+                nextReport = completed - completed % reportEvery + reportEvery;
+            }
+        }
+
+        double[] deviceUtil = new double[deviceQueue.length];
+
+        for (int d = 0; d < deviceUtil.length; d++) deviceUtil[d] = (double) deviceBusy[d] / time;
+
+        IoResult res = new IoResult(segs, log, (double) totalWT / n, (double) totalTAT / n, (double) busy / time, (double) n / time, time, latency,
+                deviceLanes, deviceUtil, (double) overlap / time, (double) totalDeviceWait / n);
+        probe.finish(res);
+
+        return res;
+    }
+
+    //*** Runs the CPU from the current time to t, logging the SRTF slice (HRRN logs whole bursts at dispatch) ***//
+    private void advanceTo(int t)
+    {
+        int run = t - time;
+
+        if (run == 0) return;
+
+        if (cur >= 0)
+        {
+            if (policy == StreamingScheduler.Policy.SRTF && log.enabled())
+            {
+                int k = cur, pid = ids[k];
+                boolean burstStart = rem[k] == w.burst(order[k], phase[k]);
+                boolean isStart = burstStart && phase[k] == 0;
+                boolean isInterrupted = lastPid != -1 && pid != lastPid && lastRem > 0;
+                boolean isResuming = !isStart && !isInterrupted && (pid != lastPid || burstStart);
+                boolean done = rem[k] == run, last = phase[k] == w.bursts(order[k]) - 1;
+
+                int flags = (isStart ? EventLog.START : 0) | (isInterrupted ? EventLog.INTERRUPT : 0) | (isResuming ? EventLog.RESUME : 0)
+                        | (done && last ? EventLog.END : 0) | (done && !last ? EventLog.BLOCK : 0);
+
+                log.slice(flags, time, pid, run, lastPid);
+
+                lastPid = pid;
+                lastRem = rem[k] - run;
+            }
+
+            rem[cur] -= run;
+            busy += run;
+
+            if (busyDevices > 0) overlap += run;
+        }
+
+        time = t;
+    }
+
+    private void scheduleArrival()
+    {
+        if (nextArrival < n)
+        {
+            int k = nextArrival++;
+            push(w.arrival(order[k]), ARRIVAL, k, 0);
+        }
+    }
+
+    private void makeReady(int k)
+    {
+        readySince[k] = time;
+        queued++;
+
+        if (policy == StreamingScheduler.Policy.SRTF)
+        {
+            ready.add(k);
+
+            return;
+        }
+
+        IntHeap bucket = bucketOf.get(rem[k]);
+
+        if (bucket == null)
+        {
+            bucket = new IntHeap();
+            bucket.reset((a, b) ->
+            {
+                if (readySince[a] != readySince[b]) return Integer.compare(readySince[a], readySince[b]);
+                if (ids[a] != ids[b]) return Integer.compare(ids[a], ids[b]);
+
+                return Integer.compare(a, b);
+            });
+            bucketOf.put(rem[k], bucket);
+            active.add(bucket);
+        }
+
+        bucket.add(k);
+    }
+
+    //*** Picks the CPU's job; SRTF reconsiders the running one against the queue at every decision point ***//
+    private void dispatch(SchedulerProbe probe)
+    {
+        boolean sampled = false;
+        long selectStart = 0;
+        int next;
+
+        if (policy == StreamingScheduler.Policy.SRTF)
+        {
+            if (ready.isEmpty()) return;
+
+            sampled = probe.sampleDispatch();
+            selectStart = sampled ? System.nanoTime() : 0;
+
+            if (cur >= 0) ready.add(cur);
+
+            next = ready.poll();
+
+            if (next == cur) return;
+
+            if (cur >= 0)
+            {
+                readySince[cur] = time; //*** Preempted, back in the queue ***//
+                closeSegment();
+            }
+
+            else
+            {
+                queued--;
+            }
+        }
+
+        else
+        {
+            if (cur >= 0 || active.isEmpty()) return;
+
+            sampled = probe.sampleDispatch();
+            selectStart = sampled ? System.nanoTime() : 0;
+            next = pickHighestRatio();
+            queued--;
+        }
+
+        long logStart = sampled ? System.nanoTime() : 0;
+        int k = next, row = order[k];
+        boolean burstStart = rem[k] == w.burst(row, phase[k]);
+
+        if (burstStart && phase[k] == 0) latency.started(w.arrival(row), time);
+
+        if (policy == StreamingScheduler.Policy.HRRN)
+        {
+            boolean last = phase[k] == w.bursts(row) - 1;
+            log.slice(EventLog.WHOLE | (phase[k] == 0 ? EventLog.START : EventLog.RESUME) | (last ? EventLog.END : EventLog.BLOCK), time, ids[k], rem[k], -1);
+        }
+
+        readyWait[k] += time - readySince[k];
+        cur = k;
+        segStart = time;
+        push(time + rem[k], CPU_DONE, k, ++gen[k]);
+
+        if (sampled) probe.dispatched(selectStart, logStart, time, ids[k], queued);
+    }
+
+    //*** Highest (wait + burst) / burst among bucket heads; ties to the smaller ID, then the earlier arrival ***//
+    private int pickHighestRatio()
+    {
+        int best = -1, bestBucket = -1;
+
+        for (int a = 0; a < active.size(); a++)
+        {
+            int k = active.get(a).peek();
+            int cmp = best < 0 ? 1 : HRRNScheduler.compareRatios(time - readySince[k], rem[k], time - readySince[best], rem[best]);
+
+            if (cmp > 0 || (cmp == 0 && (ids[k] < ids[best] || (ids[k] == ids[best] && k < best))))
+            {
+                best = k;
+                bestBucket = a;
+            }
+        }
+
+        IntHeap bucket = active.get(bestBucket);
+        bucket.poll();
+
+        if (bucket.isEmpty())
+        {
+            active.set(bestBucket, active.getLast()); //*** Swap-remove, order does not matter ***//
+            active.removeLast();
+            bucketOf.remove(rem[best]);
+        }
+
+        return best;
+    }
+
+    //*** CPU burst done with more to go: queue on the device, starting service at once if it is idle ***//
+    private void block(int k, int d)
+    {
+        queuedAt[k] = time;
+        queueSeq[k] = blocked++;
+        deviceQueue[d].add(k);
+
+        if (deviceCur[d] < 0) serve(d);
+    }
+
+    private void serve(int d)
+    {
+        if (deviceQueue[d].isEmpty()) return;
+
+        int k = deviceQueue[d].poll(), row = order[k];
+        int length = w.burst(row, phase[k]);
+
+        totalDeviceWait += time - queuedAt[k];
+        deviceCur[d] = k;
+        deviceBusy[d] += length;
+        busyDevices++;
+        deviceLanes.get(d).add(new ExecutionSegment(ids[k], time, length));
+        log.slice(EventLog.IO, time, ids[k], length, d);
+        push(time + length, IO_DONE, k, d);
+    }
+
+    private void finish(int k)
+    {
+        int row = order[k];
+        int tat = time - w.arrival(row);
+        completed++;
+        totalTAT += tat;
+        totalWT += readyWait[k];
+        latency.completed(w.arrival(row), w.service(row), readyWait[k], time);
+    }
+
+    //*** CPU segments merge only when the same job continues without a gap ***//
+    private void closeSegment()
+    {
+        int pid = ids[cur];
+
+        if (time == segStart) return;
+
+        if (policy == StreamingScheduler.Policy.SRTF && !segs.isEmpty() && segs.getLast().id == pid && segs.getLast().start + segs.getLast().duration == segStart)
+        {
+            segs.getLast().duration += time - segStart;
+        }
+
+        else
+        {
+            segs.add(new ExecutionSegment(pid, segStart, time - segStart));
+        }
+    }
+
+    private void push(int at, int kind, int k, int g)
+    {
+        int e;
+
+        if (freeCount > 0)
+        {
+            e = freeSlots[--freeCount];
+        }
+
+        else
+        {
+            if (slotCount == evTime.length)
+            {
+                int cap = slotCount * 2;
+                evTime = Arrays.copyOf(evTime, cap);
+                evKind = Arrays.copyOf(evKind, cap);
+                evProc = Arrays.copyOf(evProc, cap);
+                evGen = Arrays.copyOf(evGen, cap);
+                evSeq = Arrays.copyOf(evSeq, cap);
+                freeSlots = Arrays.copyOf(freeSlots, cap);
+            }
+
+            e = slotCount++;
+        }
+
+        evTime[e] = at;
+        evKind[e] = kind;
+        evProc[e] = k;
+        evGen[e] = g;
+        evSeq[e] = nextSeq++;
+        events.add(e);
+    }
+}
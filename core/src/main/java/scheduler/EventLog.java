@@ -0,0 +1,225 @@
+package scheduler;
+
+import java.util.Arrays;
+
+//*** Compact scheduling log: one fixed-width int record per execution slice, rendered to text only on demand ***//
+//*** A slice carries typed event flags (start, interrupt, resume, end) for its first/last time unit ***//
+public class EventLog
+{
+    //*** OFF keeps nothing (metrics-only runs), EVENTS renders one line per slice, TICKS one line per time unit ***//
+    public enum Verbosity { OFF, EVENTS, TICKS }
+
+    public static final int START = 1, INTERRUPT = 2, RESUME = 4, END = 8, WHOLE = 16; //*** WHOLE: non-preemptive burst ***//
+    public static final int BLOCK = 32, IO = 64; //*** BLOCK: CPU burst ends in an I/O wait; IO: a device burst, prevPid holds the device ***//
+    public static final int SWITCH = 128;        //*** Context-switch overhead from prevPid to pid ***//
+
+    private static final int FLAGS = 0, TIME = 1, PID = 2, DURATION = 3, PREV = 4, WIDTH = 5;
+    private static final int INDEX_STRIDE = 256; //*** Records between line-number checkpoints ***//
+
+    private final Verbosity verbosity;
+    private final String[] header;
+    private int[] records = new int[0];
+    private int count;
+    private long[] lineIndex; //*** First line of every INDEX_STRIDE-th record, built lazily ***//
+    private long lines;
+
+    public EventLog(Verbosity verbosity, String... header)
+    {
+        this.verbosity = verbosity;
+        this.header = header;
+    }
+
+    public Verbosity verbosity() { return verbosity; }
+    public boolean enabled() { return verbosity != Verbosity.OFF; }
+    public int records() { return count; }
+
+    //*** Appends a slice; a flag-less slice continuing the previous one is merged into it ***//
+    public void slice(int flags, int time, int pid, int duration, int prevPid)
+    {
+        if (verbosity == Verbosity.OFF) return;
+
+        int last = (count - 1) * WIDTH;
+
+        if (count > 0 && (flags & (START | INTERRUPT | RESUME | WHOLE | IO | SWITCH)) == 0 && records[last + PID] == pid
+                && (records[last + FLAGS] & (END | WHOLE | BLOCK | IO | SWITCH)) == 0 && records[last + TIME] + records[last + DURATION] == time)
+        {
+            records[last + DURATION] += duration;
+            records[last + FLAGS] |= flags;
+        }
+
+        else
+        {
+            if ((count + 1) * WIDTH > records.length)
+            {
+                records = Arrays.copyOf(records, Math.max(64 * WIDTH, records.length * 2));
+            }
+
+            int at = count++ * WIDTH;
+            records[at + FLAGS] = flags;
+            records[at + TIME] = time;
+            records[at + PID] = pid;
+            records[at + DURATION] = duration;
+            records[at + PREV] = prevPid;
+        }
+
+        lineIndex = null;
+    }
+
+    //*** Current end of the log: record count plus the last record's fields that later merges may change ***//
+    int[] mark()
+    {
+        int last = (count - 1) * WIDTH;
+
+        return count == 0 ? new int[] { 0, 0, 0 } : new int[] { count, records[last + FLAGS], records[last + DURATION] };
+    }
+
+    //*** Independent copy of this log as it was at mark; later slices to either log do not affect the other ***//
+    EventLog prefix(int[] mark)
+    {
+        EventLog copy = new EventLog(verbosity, header);
+        copy.count = mark[0];
+        copy.records = Arrays.copyOf(records, Math.max(64 * WIDTH, mark[0] * WIDTH));
+
+        if (mark[0] > 0)
+        {
+            int last = (mark[0] - 1) * WIDTH;
+            copy.records[last + FLAGS] = mark[1];
+            copy.records[last + DURATION] = mark[2];
+        }
+
+        return copy;
+    }
+
+    //*** Total rendered lines, header included ***//
+    public long lineCount()
+    {
+        buildIndex();
+
+        return lines;
+    }
+
+    //*** Renders lines [from, from + max) into out, one '\n'-terminated line each ***//
+    public void render(long from, int max, StringBuilder out)
+    {
+        buildIndex();
+
+        long line = from, end = Math.min(lines, from + max);
+
+        for (; line < end && line < header.length; line++)
+        {
+            out.append(header[(int) line]).append('\n');
+        }
+
+        if (line >= end) return;
+
+        //*** Jump to the nearest checkpoint, then walk at most INDEX_STRIDE records ***//
+        long target = line - header.length;
+        int block = Arrays.binarySearch(lineIndex, target);
+        if (block < 0) block = -block - 2;
+
+        int r = block * INDEX_STRIDE;
+        long first = lineIndex[block];
+
+        while (first + linesOf(r) <= target)
+        {
+            first += linesOf(r++);
+        }
+
+        for (int k = (int) (target - first); line < end; r++, k = 0)
+        {
+            for (int n = linesOf(r); k < n && line < end; k++, line++)
+            {
+                renderLine(r, k, out);
+            }
+        }
+    }
+
+    //*** Full text, for small logs and tests ***//
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        render(0, (int) Math.min(Integer.MAX_VALUE, lineCount()), sb);
+
+        return sb.toString();
+    }
+
+    private void buildIndex()
+    {
+        if (lineIndex != null) return;
+
+        long[] index = new long[(count + INDEX_STRIDE - 1) / INDEX_STRIDE + 1];
+        long total = 0;
+
+        for (int r = 0; r < count; r++)
+        {
+            if (r % INDEX_STRIDE == 0) index[r / INDEX_STRIDE] = total;
+
+            total += linesOf(r);
+        }
+
+        //*** Trailing sentinel keeps binarySearch inside the array ***//
+        index[index.length - 1] = Long.MAX_VALUE;
+        lineIndex = index;
+        lines = header.length + total;
+    }
+
+    private int linesOf(int r)
+    {
+        int at = r * WIDTH;
+
+        return verbosity == Verbosity.TICKS && (records[at + FLAGS] & (WHOLE | IO | SWITCH)) == 0 ? records[at + DURATION] : 1;
+    }
+
+    //*** Line k of record r: the per-tick format matches the original scheduler output ***//
+    private void renderLine(int r, int k, StringBuilder out)
+    {
+        int at = r * WIDTH;
+        int flags = records[at + FLAGS], time = records[at + TIME], pid = records[at + PID], duration = records[at + DURATION];
+
+        if ((flags & IO) != 0)
+        {
+            out.append("t=").append(time).append(" -> P").append(pid).append(" I/O on device ").append(records[at + PREV]).append(" (").append(duration).append(")\n");
+
+            return;
+        }
+
+        if ((flags & SWITCH) != 0)
+        {
+            out.append("t=").append(time);
+
+            if (duration > 1) out.append("..").append(time + duration - 1);
+
+            out.append(" -> context switch P").append(records[at + PREV]).append(" -> P").append(pid).append(" (overhead ").append(duration).append(")\n");
+
+            return;
+        }
+
+        if ((flags & WHOLE) != 0)
+        {
+            out.append("t=").append(time).append(" -> P").append(pid).append(" (burst=").append(duration).append(")");
+
+            if ((flags & (START | END)) == (START | END)) out.append(" (start,end)");
+            else out.append((flags & START) != 0 ? " (start)" : " (resuming)").append((flags & END) != 0 ? " (end)" : " (blocked)");
+
+            out.append('\n');
+
+            return;
+        }
+
+        boolean ticks = verbosity == Verbosity.TICKS;
+        boolean first = k == 0, last = !ticks || k == duration - 1;
+
+        out.append("t=").append(time + k);
+        if (!ticks && duration > 1) out.append("..").append(time + duration - 1);
+        out.append(" -> P").append(pid);
+
+        if (first && (flags & START) != 0)     out.append(" (start)");
+        if (first && (flags & INTERRUPT) != 0) out.append(" (after P").append(records[at + PREV]).append(" interrupted)");
+        if (first && (flags & RESUME) != 0)    out.append(" (resuming)");
+        if (last && (flags & END) != 0)        out.append(" (end)");
+        if (last && (flags & BLOCK) != 0)      out.append(" (blocked)");
+
+        out.append('\n');
+    }
+}
@@ -0,0 +1,16 @@
+package scheduler;
+
+//*** Contiguous execution segment for a process in the Gantt chart ***//
+public class ExecutionSegment
+{
+    public static final int OVERHEAD = Integer.MIN_VALUE; //*** id of a context-switch segment (see SwitchCost) ***//
+
+    public int id, start, duration;
+
+    public ExecutionSegment(int id, int start, int duration)
+    {
+        this.id = id;
+        this.start = start;
+        this.duration = duration;
+    }
+}
@@ -0,0 +1,235 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Implements Highest Response Ratio Next ***//
+//*** Ready jobs are bucketed by burst: inside a bucket the earliest arrival always has the highest ratio, ***//
+//*** so each dispatch only compares one head per distinct burst instead of every ready job ***//
+//*** Jobs never resume, so a SwitchCost only charges its switch time, when a job follows another one straight ***//
+//*** away; after an idle stretch there is nothing to switch from ***//
+public class HRRNScheduler implements Scheduler
+{
+    private final SwitchCost cost;
+
+    public HRRNScheduler()
+    {
+        this(SwitchCost.NONE);
+    }
+
+    public HRRNScheduler(SwitchCost cost)
+    {
+        this.cost = cost;
+    }
+
+    @Override
+    public String name() { return "HRRN"; }
+
+    @Override
+    public String parameters() { return cost.isFree() ? "" : cost.toString(); }
+
+    @Override
+    public ScheduleResult run(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        return schedule(w, s, verbosity, progress, cost);
+    }
+
+    public static ScheduleResult schedule(List<Process> jobs)
+    {
+        return schedule(Workload.of(jobs), new SchedulerScratch(), EventLog.Verbosity.TICKS);
+    }
+
+    public static ScheduleResult schedule(Workload w)
+    {
+        return schedule(w, new SchedulerScratch(), EventLog.Verbosity.TICKS);
+    }
+
+    //*** Verbosity.OFF skips the log entirely (metrics and segments only) ***//
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity)
+    {
+        return schedule(w, s, verbosity, ProgressListener.NONE);
+    }
+
+    //*** progress is told how many of the schedulable jobs have completed ***//
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        return schedule(w, s, verbosity, progress, SwitchCost.NONE);
+    }
+
+    //*** Sign of ratio A - ratio B for (wait + burst) / burst, exactly: the same as comparing waitA * burstB with ***//
+    //*** waitB * burstA, which cannot overflow a long. Shared with the streaming and event-kernel HRRN ***//
+    static int compareRatios(int waitA, int burstA, int waitB, int burstB)
+    {
+        return Long.compare((long) waitA * burstB, (long) waitB * burstA);
+    }
+
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress, SwitchCost cost)
+    {
+        int[] order = w.order(); //*** Zero-length jobs are left out, the rest sorted by arrival time ***//
+        int n = order.length;
+
+        if (n == 0)
+        {
+            return new ScheduleResult(Collections.emptyList(), new EventLog(verbosity, "--- HRRN Scheduling ---", "(no jobs)"), 0, 0, 0, 0, 0);
+        }
+
+        int[] ids = w.ids(), arrivals = w.arrivals(), bursts = w.bursts();
+        s.prepare(w.size(), n);
+
+        int time = 0, completed = 0, busy = 0, nextArrivalIdx = 0;
+        int lastRan = -1, overhead = 0; //*** Job that just finished (-1 after idling), time lost switching ***//
+        double totalWT = 0, totalTAT = 0;
+        LatencyStats latency = new LatencyStats();
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+        List<ExecutionSegment> segs = new ArrayList<>();
+        EventLog log = new EventLog(verbosity, "--- HRRN Scheduling ---");
+        SchedulerProbe probe = SchedulerProbe.start("HRRN", n);
+
+        //*** Dense bucket number per distinct burst length ***//
+        int[] distinct = new int[n];
+
+        for (int k = 0; k < n; k++) distinct[k] = bursts[order[k]];
+
+        Arrays.sort(distinct);
+        int classes = 0;
+
+        for (int k = 0; k < n; k++)
+        {
+            if (k == 0 || distinct[k] != distinct[k - 1]) distinct[classes++] = distinct[k];
+        }
+
+        int[] burstClass = s.burstClass;
+
+        for (int k = 0; k < n; k++) burstClass[k] = Arrays.binarySearch(distinct, 0, classes, bursts[order[k]]);
+
+        //*** Each bucket holds arrival positions, oldest arrival first (smaller ID on equal arrival) ***//
+        s.prepareBuckets(classes);
+        IntHeap[] buckets = s.buckets;
+        IntHeap.Order oldestFirst = (a, b) ->
+        {
+            int ra = order[a], rb = order[b];
+
+            if (arrivals[ra] != arrivals[rb]) return Integer.compare(arrivals[ra], arrivals[rb]);
+            if (ids[ra] != ids[rb]) return Integer.compare(ids[ra], ids[rb]);
+
+            return Integer.compare(a, b);
+        };
+
+        for (int c = 0; c < classes; c++) buckets[c].reset(oldestFirst);
+
+        //*** Non-empty buckets, with O(1) swap-removal through activePos ***//
+        int[] active = s.active, activePos = s.activePos;
+        int activeCount = 0;
+
+        //*** Main scheduling loop ***//
+        while (completed < n)
+        {
+            //*** Admit every job that has arrived by now ***//
+            while (nextArrivalIdx < n && arrivals[order[nextArrivalIdx]] <= time)
+            {
+                int c = burstClass[nextArrivalIdx];
+
+                if (buckets[c].isEmpty())
+                {
+                    activePos[c] = activeCount;
+                    active[activeCount++] = c;
+                }
+
+                buckets[c].add(nextArrivalIdx++);
+            }
+
+            probe.queueDepth(time, nextArrivalIdx - completed); //*** Admitted, not yet run ***//
+
+            if (activeCount == 0)
+            {
+                time = arrivals[order[nextArrivalIdx]]; //*** Idle CPU, jump to next arrival ***//
+                lastRan = -1;
+
+                continue;
+            }
+
+            boolean sampled = probe.sampleDispatch();
+            long selectStart = sampled ? System.nanoTime() : 0;
+            int next = -1;
+
+            //*** Response ratio for the head of each burst bucket ***//
+            for (int a = 0; a < activeCount; a++)
+            {
+                int k = buckets[active[a]].peek();
+                int row = order[k], best = next < 0 ? -1 : order[next];
+                int cmp = next < 0 ? 1 : compareRatios(time - arrivals[row], bursts[row], time - arrivals[best], bursts[best]);
+
+                //*** Tie-break via whichever has the smaller ID value, then arrival order ***//
+                if (cmp > 0 || (cmp == 0 && (ids[row] < ids[best] || (ids[row] == ids[best] && k < next))))
+                {
+                    next = k;
+                }
+            }
+
+            //*** Mark job done by dropping it from its bucket ***//
+            int c = burstClass[next];
+            buckets[c].poll();
+
+            if (buckets[c].isEmpty())
+            {
+                int moved = active[--activeCount];
+                active[activePos[c]] = moved;
+                activePos[moved] = activePos[c];
+            }
+
+            int row = order[next];
+
+            int o = cost.overhead(lastRan >= 0, false, 0); //*** Never resuming, so the gap does not matter ***//
+
+            if (o > 0)
+            {
+                segs.add(new ExecutionSegment(ExecutionSegment.OVERHEAD, time, o));
+                log.slice(EventLog.SWITCH, time, ids[row], o, ids[order[lastRan]]);
+                overhead += o;
+                time += o;
+            }
+
+            lastRan = next;
+
+            //*** Log start/end both at same time for non-preemptive HRRN ***//
+            long logStart = sampled ? System.nanoTime() : 0;
+            log.slice(EventLog.WHOLE | EventLog.START | EventLog.END, time, ids[row], bursts[row], -1);
+
+            if (sampled) probe.dispatched(selectStart, logStart, time, ids[row], nextArrivalIdx - completed - 1);
+
+            //*** Record segment for entire burst ***//
+            segs.add(new ExecutionSegment(ids[row], time, bursts[row]));
+            latency.started(arrivals[row], time);
+            time   += bursts[row];
+            busy   += bursts[row];
+
+            //*** Compute metrics, Avg WT, Avg TAT ***//
+            s.completion[row] = time;
+            int tat = time - arrivals[row];
+            int wt  = tat - bursts[row];
+            totalTAT += tat;
+            totalWT  += wt;
+            latency.completed(arrivals[row], bursts[row], time);
+
+            completed++;
+
+            if (completed == nextReport || completed == n)
+            {
+                probe.progress(time, completed);
+                progress.progress(completed, n);
+                nextReport += reportEvery;
+            }
+        }
+
+        //*** Display metrics ***//
+        double avgWT = totalWT / n;
+        double avgTAT = totalTAT / n;
+        double cpuUtil = (double) busy / time;
+        double throughput = (double) n / time;
+
+        ScheduleResult res = new ScheduleResult(segs, log, avgWT, avgTAT, cpuUtil, throughput, time, latency);
+        res.overhead = (double) overhead / time;
+        probe.finish(res);
+
+        return res;
+    }
+}
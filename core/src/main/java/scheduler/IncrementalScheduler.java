@@ -0,0 +1,175 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Re-schedules an edited workload without starting over: while scheduling it records checkpoints (ready set, ***//
+//*** remaining times, counters, how much output existed) every few hundred arrivals. On the next call it finds ***//
+//*** the longest arrival-ordered prefix the old and new workloads share, resumes from the last checkpoint inside ***//
+//*** that prefix and splices the new tail onto the kept segments, log and metrics. Results equal a full streaming run ***//
+//*** Not thread-safe; results already returned stay valid, later calls copy what they reuse ***//
+public class IncrementalScheduler
+{
+    private static final int MAX_CHECKPOINTS = 128, MIN_STRIDE = 64;
+
+    //*** Scheduler state before job number position (in arrival order) was submitted ***//
+    private static final class Checkpoint
+    {
+        final int position, segments;
+        final int[] logMark;
+        final StreamingScheduler.State state;
+
+        Checkpoint(int position, int segments, int[] logMark, StreamingScheduler.State state)
+        {
+            this.position = position;
+            this.segments = segments;
+            this.logMark = logMark;
+            this.state = state;
+        }
+    }
+
+    private final StreamingScheduler.Policy policy;
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+
+    //*** The previous run, in arrival order ***//
+    private int[] prevIds = new int[0], prevArrivals = new int[0], prevBursts = new int[0];
+    private int[] prevCompletion = new int[0]; //*** By arrival position ***//
+    private List<ExecutionSegment> prevSegments = List.of();
+    private EventLog prevLog;
+    private int[] completionByRow = new int[0];
+    private int resumedAt, replayed;
+
+    public IncrementalScheduler(StreamingScheduler.Policy policy)
+    {
+        this.policy = policy;
+    }
+
+    //*** Schedules w, reusing the previous call's work where the workloads agree ***//
+    public ScheduleResult schedule(Workload w, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        try
+        {
+            return run(w, verbosity, progress);
+        }
+
+        catch (RuntimeException ex)
+        {
+            reset(); //*** A cancelled run leaves nothing half-recorded behind ***//
+
+            throw ex;
+        }
+    }
+
+    //*** Simulated time the last call resumed from (0 for a full run) and how many jobs it had to replay ***//
+    public int resumedAt() { return resumedAt; }
+    public int replayedJobs() { return replayed; }
+
+    //*** Completion time of row i of the last workload, -1 if it was not scheduled ***//
+    public int completionTime(int i) { return completionByRow[i]; }
+    public int[] completionTimes() { return completionByRow.clone(); }
+
+    //*** Forgets every checkpoint; the next call runs in full ***//
+    public void reset()
+    {
+        checkpoints.clear();
+        prevIds = prevArrivals = prevBursts = prevCompletion = new int[0];
+        prevSegments = List.of();
+        prevLog = null;
+    }
+
+    private ScheduleResult run(Workload w, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        int[] order = w.order();
+        int n = order.length;
+        String title = "--- " + policy + " Scheduling ---";
+
+        if (n == 0)
+        {
+            reset();
+            completionByRow = new int[w.size()];
+            Arrays.fill(completionByRow, -1);
+            resumedAt = replayed = 0;
+
+            return new ScheduleResult(Collections.emptyList(), new EventLog(verbosity, title, "(no jobs)"), 0, 0, 0, 0, 0);
+        }
+
+        int[] ids = new int[n], arrivals = new int[n], bursts = new int[n];
+
+        for (int k = 0; k < n; k++)
+        {
+            ids[k] = w.id(order[k]);
+            arrivals[k] = w.arrival(order[k]);
+            bursts[k] = w.burst(order[k]);
+        }
+
+        //*** Longest shared prefix; a different verbosity means the kept log does not fit ***//
+        int same = 0;
+
+        if (prevLog != null && prevLog.verbosity() == verbosity)
+        {
+            int limit = Math.min(n, prevIds.length);
+
+            while (same < limit && ids[same] == prevIds[same] && arrivals[same] == prevArrivals[same] && bursts[same] == prevBursts[same]) same++;
+        }
+
+        while (!checkpoints.isEmpty() && checkpoints.getLast().position > same) checkpoints.removeLast();
+
+        Checkpoint from = checkpoints.isEmpty() ? null : checkpoints.getLast();
+        int start = from == null ? 0 : from.position;
+
+        List<ExecutionSegment> segs = new ArrayList<>(from == null ? List.of() : prevSegments.subList(0, from.segments));
+        EventLog log = from == null ? new EventLog(verbosity, title) : prevLog.prefix(from.logMark);
+        int[] completion = Arrays.copyOf(prevCompletion, n); //*** Entries past the checkpoint are overwritten below ***//
+
+        int reportEvery = ProgressListener.interval(n);
+        long[] done = { from == null ? 0 : from.state.completed };
+
+        StreamingScheduler engine = new StreamingScheduler(policy, new StreamingScheduler.Sink()
+        {
+            @Override
+            public void segment(ExecutionSegment segment)
+            {
+                segs.add(segment);
+            }
+
+            @Override
+            public void completed(long index, int id, int arrival, int burst, int time)
+            {
+                completion[(int) index] = time;
+
+                if (++done[0] % reportEvery == 0 || done[0] == n) progress.progress((int) done[0], n);
+            }
+        }, log);
+
+        if (from != null) engine.restore(from.state);
+
+        int stride = Math.max(MIN_STRIDE, n / MAX_CHECKPOINTS);
+
+        for (int k = start; k < n; k++)
+        {
+            if (k % stride == 0 && k > start)
+            {
+                checkpoints.add(new Checkpoint(k, segs.size(), log.mark(), engine.snapshot()));
+            }
+
+            engine.submit(ids[k], arrivals[k], bursts[k]);
+        }
+
+        ScheduleResult res = engine.finish();
+
+        prevIds = ids;
+        prevArrivals = arrivals;
+        prevBursts = bursts;
+        prevCompletion = completion;
+        prevSegments = segs;
+        prevLog = log;
+        resumedAt = from == null ? 0 : from.state.time;
+        replayed = n - start;
+
+        completionByRow = new int[w.size()];
+        Arrays.fill(completionByRow, -1);
+
+        for (int k = 0; k < n; k++) completionByRow[order[k]] = completion[k];
+
+        return new ScheduleResult(segs, log, res.avgWT, res.avgTAT, res.cpuUtil, res.throughput, res.totalTime, res.latency);
+    }
+}
@@ -0,0 +1,68 @@
+package scheduler;
+
+import java.util.Arrays;
+
+//*** Binary min-heap of int handles ordered by a caller-supplied comparator; no boxing, reusable across runs ***//
+class IntHeap
+{
+    interface Order
+    {
+        int compare(int a, int b);
+    }
+
+    private int[] heap = new int[16];
+    private int size;
+    private Order order;
+
+    //*** Empties the heap and installs the ordering for the next run, keeping the backing array ***//
+    void reset(Order order)
+    {
+        this.order = order;
+        size = 0;
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+    int peek() { return heap[0]; }
+
+    void add(int v)
+    {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+
+        int i = size++;
+
+        while (i > 0)
+        {
+            int parent = (i - 1) >>> 1;
+
+            if (order.compare(v, heap[parent]) >= 0) break;
+
+            heap[i] = heap[parent];
+            i = parent;
+        }
+
+        heap[i] = v;
+    }
+
+    int poll()
+    {
+        int top = heap[0];
+        int last = heap[--size];
+        int i = 0, half = size >>> 1;
+
+        while (i < half)
+        {
+            int child = 2 * i + 1;
+
+            if (child + 1 < size && order.compare(heap[child + 1], heap[child]) < 0) child++;
+            if (order.compare(last, heap[child]) <= 0) break;
+
+            heap[i] = heap[child];
+            i = child;
+        }
+
+        if (size > 0) heap[i] = last;
+
+        return top;
+    }
+}
@@ -0,0 +1,120 @@
+package scheduler;
+
+//*** Ordered set of int handles in [0, capacity) keyed by unique longs: an array-backed treap, ***//
+//*** O(log n) expected insert and remove-min, no boxing. Node storage is indexed by the handle itself ***//
+class IntTree
+{
+    private long[] key = new long[0];
+    private int[] left = new int[0], right = new int[0], priority = new int[0];
+    private int root = -1, size;
+    private int splitLeft, splitRight;
+    private int seed = 0x2545F491; //*** Fixed, so runs are reproducible ***//
+
+    //*** Empties the tree and sizes it for handles below capacity, keeping the backing arrays ***//
+    void reset(int capacity)
+    {
+        if (key.length < capacity)
+        {
+            key = new long[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+            priority = new int[capacity];
+        }
+
+        root = -1;
+        size = 0;
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+
+    //*** Smallest key's handle; the tree must not be empty ***//
+    int first()
+    {
+        int t = root;
+
+        while (left[t] >= 0) t = left[t];
+
+        return t;
+    }
+
+    long firstKey() { return key[first()]; }
+
+    //*** Inserts handle h, which must not already be in the tree ***//
+    void add(int h, long k)
+    {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+
+        key[h] = k;
+        priority[h] = seed;
+        left[h] = right[h] = -1;
+        root = insert(root, h);
+        size++;
+    }
+
+    //*** Removes and returns the smallest key's handle ***//
+    int pollFirst()
+    {
+        int t = root, parent = -1;
+
+        while (left[t] >= 0)
+        {
+            parent = t;
+            t = left[t];
+        }
+
+        //*** The minimum has no left child, so its right subtree takes its place ***//
+        if (parent < 0) root = right[t];
+        else left[parent] = right[t];
+
+        size--;
+
+        return t;
+    }
+
+    private int insert(int t, int h)
+    {
+        if (t < 0) return h;
+
+        if (priority[h] > priority[t])
+        {
+            split(t, key[h]);
+            left[h] = splitLeft;
+            right[h] = splitRight;
+
+            return h;
+        }
+
+        if (key[h] < key[t]) left[t] = insert(left[t], h);
+        else right[t] = insert(right[t], h);
+
+        return t;
+    }
+
+    //*** Splits t into keys below k (splitLeft) and the rest (splitRight) ***//
+    private void split(int t, long k)
+    {
+        if (t < 0)
+        {
+            splitLeft = splitRight = -1;
+
+            return;
+        }
+
+        if (key[t] < k)
+        {
+            split(right[t], k);
+            right[t] = splitLeft;
+            splitLeft = t;
+        }
+
+        else
+        {
+            split(left[t], k);
+            left[t] = splitRight;
+            splitRight = t;
+        }
+    }
+}
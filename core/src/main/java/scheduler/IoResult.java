@@ -0,0 +1,35 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Result of an event-kernel run with I/O: CPU metrics as usual (avgWT counts ready-queue time only), ***//
+//*** plus one Gantt lane and one utilisation figure per device ***//
+public class IoResult extends ScheduleResult
+{
+    public int devices;
+    public List<List<ExecutionSegment>> deviceLanes;
+    public double[] deviceUtil;
+    public double overlap;       //*** Share of the run with the CPU and at least one device busy at once ***//
+    public double avgDeviceWait; //*** Mean time per process spent queued for a busy device ***//
+
+    public IoResult(List<ExecutionSegment> segments, EventLog log, double avgWT, double avgTAT, double cpuUtil, double throughput, int totalTime,
+                    LatencyStats latency, List<List<ExecutionSegment>> deviceLanes, double[] deviceUtil, double overlap, double avgDeviceWait)
+    {
+        super(segments, log, avgWT, avgTAT, cpuUtil, throughput, totalTime, latency);
+        this.devices = deviceLanes.size();
+        this.deviceLanes = deviceLanes;
+        this.deviceUtil = deviceUtil;
+        this.overlap = overlap;
+        this.avgDeviceWait = avgDeviceWait;
+    }
+
+    @Override
+    public long estimatedBytes()
+    {
+        long lanesBytes = 0;
+
+        for (List<ExecutionSegment> lane : deviceLanes) lanesBytes += 40L * lane.size();
+
+        return super.estimatedBytes() + lanesBytes + 8L * deviceUtil.length;
+    }
+}
@@ -0,0 +1,78 @@
+package scheduler;
+
+//*** Per-run latency distributions, fed by the schedulers as jobs start and finish; memory is fixed whatever the job count ***//
+//*** Response time is first dispatch minus arrival. Fairness is Jain's index over each job's burst / turnaround ***//
+//*** (1 when every job was slowed down equally); a job counts as starved when its turnaround reached ***//
+//*** STARVATION_SLOWDOWN times its burst ***//
+public class LatencyStats
+{
+    public static final double STARVATION_SLOWDOWN = 10;
+
+    private final LogHistogram waiting = new LogHistogram(), turnaround = new LogHistogram(), response = new LogHistogram();
+    private double shareSum, shareSquares;
+    private long starved;
+
+    //*** First dispatch of a job ***//
+    public void started(int arrival, int time)
+    {
+        response.record(time - arrival);
+    }
+
+    public void completed(int arrival, int burst, int time)
+    {
+        completed(arrival, burst, time - arrival - burst, time);
+    }
+
+    //*** For jobs that also block: service is all CPU and I/O time, wait only what the caller counts as waiting ***//
+    public void completed(int arrival, int service, int wait, int time)
+    {
+        int tat = time - arrival;
+        double share = (double) service / tat;
+
+        waiting.record(wait);
+        turnaround.record(tat);
+        shareSum += share;
+        shareSquares += share * share;
+
+        if (tat >= STARVATION_SLOWDOWN * service) starved++;
+    }
+
+    public void merge(LatencyStats other)
+    {
+        waiting.merge(other.waiting);
+        turnaround.merge(other.turnaround);
+        response.merge(other.response);
+        shareSum += other.shareSum;
+        shareSquares += other.shareSquares;
+        starved += other.starved;
+    }
+
+    public LatencyStats copy()
+    {
+        LatencyStats c = new LatencyStats();
+        c.merge(this);
+
+        return c;
+    }
+
+    public LogHistogram waiting() { return waiting; }
+    public LogHistogram turnaround() { return turnaround; }
+    public LogHistogram response() { return response; }
+    public long completed() { return turnaround.count(); }
+    public long starved() { return starved; }
+    long estimatedBytes() { return waiting.estimatedBytes() + turnaround.estimatedBytes() + response.estimatedBytes() + 48; }
+
+    //*** (sum x)^2 / (n * sum x^2), in (0, 1]; 1 for an empty run ***//
+    public double jainFairness()
+    {
+        long n = turnaround.count();
+
+        return n == 0 ? 1 : shareSum * shareSum / (n * shareSquares);
+    }
+
+    //*** "p50=.. p90=.. p99=.. p99.9=.. max=.." for one of the histograms ***//
+    public static String summary(LogHistogram h)
+    {
+        return String.format("p50=%.0f p90=%.0f p99=%.0f p99.9=%.0f max=%.0f", h.quantile(0.5), h.quantile(0.9), h.quantile(0.99), h.quantile(0.999), h.max());
+    }
+}
@@ -0,0 +1,131 @@
+package scheduler;
+
+//*** Fixed-memory histogram of non-negative values with log-scaled buckets (HdrHistogram style) ***//
+//*** Each power of two is split into 128 sub-buckets, so quantiles carry under 0.8% relative error ***//
+//*** (integers below 256 are exact, which covers most wait times) ***//
+//*** Values below 2^-10 share the zero bucket; histograms with the same layout merge by adding counts ***//
+//*** Only the span of buckets actually hit is allocated, so narrow distributions stay a few KB ***//
+public class LogHistogram
+{
+    private static final int SUB_BITS = 7, SUB = 1 << SUB_BITS;
+    private static final int MIN_EXP = -10, MAX_EXP = 40;
+    private static final int BUCKETS = 1 + (MAX_EXP - MIN_EXP + 1) * SUB;
+
+    private long zeros;    //*** Bucket 0 ***//
+    private long[] counts; //*** counts[i] is bucket base + i; null until a non-zero value arrives ***//
+    private int base;
+    private long total;
+    private double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+    public void record(double v)
+    {
+        int b = bucket(v);
+
+        if (b == 0)
+        {
+            zeros++;
+        }
+
+        else
+        {
+            cover(b, b);
+            counts[b - base]++;
+        }
+
+        total++;
+        if (v < min) min = v;
+        if (v > max) max = v;
+    }
+
+    public void merge(LogHistogram other)
+    {
+        zeros += other.zeros;
+
+        if (other.counts != null)
+        {
+            cover(other.base, other.base + other.counts.length - 1);
+
+            for (int i = 0; i < other.counts.length; i++) counts[other.base + i - base] += other.counts[i];
+        }
+
+        total += other.total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() { return total; }
+    long estimatedBytes() { return (counts == null ? 0 : 8L * counts.length) + 64; }
+    public double min() { return total == 0 ? 0 : min; }
+    public double max() { return total == 0 ? 0 : max; }
+
+    //*** Value at quantile q in [0, 1]: the lower bound of the bucket holding that rank, clamped to [min, max] ***//
+    public double quantile(double q)
+    {
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = zeros;
+
+        if (seen >= rank) return Math.max(min, Math.min(max, 0));
+
+        for (int i = 0; counts != null && i < counts.length; i++)
+        {
+            seen += counts[i];
+
+            if (seen >= rank)
+            {
+                return Math.max(min, Math.min(max, lowerBound(base + i)));
+            }
+        }
+
+        return max;
+    }
+
+    //*** Grows the allocated span to include buckets lo..hi, at least doubling so repeated growth stays amortised ***//
+    private void cover(int lo, int hi)
+    {
+        if (counts == null)
+        {
+            base = lo;
+            counts = new long[Math.max(hi - lo + 1, 16)];
+
+            if (base + counts.length > BUCKETS) base = BUCKETS - counts.length;
+
+            return;
+        }
+
+        int end = base + counts.length;
+
+        if (lo >= base && hi < end) return;
+
+        int newBase = Math.min(base, lo), newEnd = Math.max(end, hi + 1);
+        int extra = counts.length;
+
+        if (lo < base) newBase = Math.max(1, newBase - extra);
+        if (hi >= end) newEnd = Math.min(BUCKETS, newEnd + extra);
+
+        long[] grown = new long[newEnd - newBase];
+        System.arraycopy(counts, 0, grown, base - newBase, counts.length);
+        counts = grown;
+        base = newBase;
+    }
+
+    private static int bucket(double v)
+    {
+        if (!(v >= 0x1p-10)) return 0; //*** Also catches negatives and NaN ***//
+
+        int exp = Math.min(MAX_EXP, Math.getExponent(v));
+        int sub = exp == Math.getExponent(v) ? (int) (Double.doubleToRawLongBits(v) >>> (52 - SUB_BITS)) & (SUB - 1) : SUB - 1;
+
+        return 1 + (exp - MIN_EXP) * SUB + sub;
+    }
+
+    private static double lowerBound(int bucket)
+    {
+        if (bucket == 0) return 0;
+
+        int exp = (bucket - 1) / SUB + MIN_EXP, sub = (bucket - 1) % SUB;
+
+        return Math.scalb(1 + (double) sub / SUB, exp);
+    }
+}
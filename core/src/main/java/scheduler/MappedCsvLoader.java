@@ -0,0 +1,261 @@
+package scheduler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+import java.util.stream.IntStream;
+
+//*** Loads (id, arrival, burst) CSV rows by memory-mapping the file and parsing ints straight from the bytes ***//
+//*** The file is cut into line-aligned chunks that are parsed in parallel into primitive arrays ***//
+//*** Row rules match CsvWorkload: fewer than three columns or malformed numbers are skipped ***//
+public class MappedCsvLoader
+{
+    private static final long MIN_CHUNK = 1L << 20, MAX_CHUNK = 16L << 20;
+
+    //*** Parsed rows, in file order, plus the number of non-blank rows that were skipped ***//
+    public static class Result
+    {
+        public final Workload workload;
+        public final long skipped;
+
+        Result(Workload workload, long skipped)
+        {
+            this.workload = workload;
+            this.skipped = skipped;
+        }
+    }
+
+    //*** progress (may be null) receives the fraction of bytes parsed, from worker threads ***//
+    public static Result load(Path file, DoubleConsumer progress) throws IOException
+    {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            long size = ch.size();
+
+            if (size == 0) return new Result(new Workload(new int[0], new int[0], new int[0]), 0);
+
+            long[] bounds = chunkBounds(ch, size);
+            Chunk[] parsed = new Chunk[bounds.length - 1];
+            AtomicLong bytesDone = new AtomicLong();
+
+            try
+            {
+                IntStream.range(0, parsed.length).parallel().forEach(c ->
+                {
+                    parsed[c] = parseChunk(ch, bounds[c], bounds[c + 1]);
+
+                    long done = bytesDone.addAndGet(bounds[c + 1] - bounds[c]);
+                    if (progress != null) progress.accept(done / (double) size);
+                });
+            }
+
+            catch (UncheckedIOException ex)
+            {
+                throw ex.getCause();
+            }
+
+            //*** Stitch chunk columns back together in file order ***//
+            int rows = 0;
+            long skipped = 0;
+
+            for (Chunk c : parsed)
+            {
+                rows = Math.addExact(rows, c.rows);
+                skipped += c.skipped;
+            }
+
+            int[] ids = new int[rows], arrivals = new int[rows], bursts = new int[rows];
+            int at = 0;
+
+            for (Chunk c : parsed)
+            {
+                System.arraycopy(c.ids, 0, ids, at, c.rows);
+                System.arraycopy(c.arrivals, 0, arrivals, at, c.rows);
+                System.arraycopy(c.bursts, 0, bursts, at, c.rows);
+                at += c.rows;
+            }
+
+            return new Result(new Workload(ids, arrivals, bursts), skipped);
+        }
+    }
+
+    //*** Chunk boundaries sit just past a line terminator so no row is split between workers ***//
+    private static long[] chunkBounds(FileChannel ch, long size) throws IOException
+    {
+        int workers = Runtime.getRuntime().availableProcessors();
+        long target = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, size / (workers * 4L)));
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = target;
+
+        while (pos < size)
+        {
+            long cut = size;
+
+            //*** Scan forward for the next '\n' or '\r' ***//
+            for (long at = pos; at < size && cut == size; at += probe.limit())
+            {
+                probe.clear();
+                ch.read(probe, at);
+                probe.flip();
+
+                for (int i = 0; i < probe.limit(); i++)
+                {
+                    byte b = probe.get(i);
+
+                    if (b == '\n' || b == '\r')
+                    {
+                        cut = at + i + 1; break;
+                    }
+                }
+            }
+
+            bounds.add(cut);
+            pos = cut + target;
+        }
+
+        if (bounds.getLast() != size) bounds.add(size);
+
+        long[] out = new long[bounds.size()];
+        for (int i = 0; i < out.length; i++) out[i] = bounds.get(i);
+
+        return out;
+    }
+
+    //*** Columns for one chunk, grown geometrically ***//
+    private static class Chunk
+    {
+        int[] ids, arrivals, bursts;
+        int rows;
+        long skipped;
+
+        Chunk(int capacity)
+        {
+            ids = new int[capacity];
+            arrivals = new int[capacity];
+            bursts = new int[capacity];
+        }
+
+        void add(int id, int arrival, int burst)
+        {
+            if (rows == ids.length)
+            {
+                int cap = ids.length + (ids.length >> 1) + 16;
+                ids = Arrays.copyOf(ids, cap);
+                arrivals = Arrays.copyOf(arrivals, cap);
+                bursts = Arrays.copyOf(bursts, cap);
+            }
+
+            ids[rows] = id;
+            arrivals[rows] = arrival;
+            bursts[rows] = burst;
+            rows++;
+        }
+    }
+
+    private static Chunk parseChunk(FileChannel ch, long from, long to)
+    {
+        MappedByteBuffer buf;
+
+        try
+        {
+            buf = ch.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        }
+
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+
+        int end = buf.limit();
+        Chunk chunk = new Chunk(end / 16 + 16);
+        int[] cols = new int[3];
+        int pos = 0;
+
+        while (pos < end)
+        {
+            boolean blank = true, ok = true;
+            int col = 0;
+
+            //*** Parse up to three fields: [ws] [+|-] digits [ws] followed by ',' or end of line ***//
+            while (ok && col < 3)
+            {
+                while (pos < end && isSpace(buf.get(pos))) pos++;
+
+                boolean neg = false;
+
+                if (pos < end && (buf.get(pos) == '-' || buf.get(pos) == '+'))
+                {
+                    neg = buf.get(pos) == '-';
+                    pos++;
+                    blank = false;
+                }
+
+                long mag = 0;
+                int digits = 0;
+
+                while (pos < end)
+                {
+                    int d = buf.get(pos) - '0';
+
+                    if (d < 0 || d > 9) break;
+
+                    if (mag <= 2147483648L) mag = mag * 10 + d; //*** Stop growing once out of int range ***//
+
+                    digits++;
+                    pos++;
+                }
+
+                if (digits > 0) blank = false;
+
+                while (pos < end && isSpace(buf.get(pos))) pos++;
+
+                byte next = pos < end ? buf.get(pos) : (byte) '\n';
+                boolean eol = next == '\n' || next == '\r';
+
+                if (!eol) blank = false;
+
+                if (digits == 0 || mag > (neg ? 2147483648L : Integer.MAX_VALUE) || (next != ',' && !(col == 2 && eol)))
+                {
+                    ok = false;
+                }
+
+                else
+                {
+                    cols[col++] = (int) (neg ? -mag : mag);
+                    if (next == ',') pos++;
+                }
+            }
+
+            //*** Skip whatever is left of the line (extra columns or the bad remainder) ***//
+            while (pos < end && buf.get(pos) != '\n' && buf.get(pos) != '\r')
+            {
+                blank = false;
+                pos++;
+            }
+
+            pos++; //*** Line terminator ***//
+
+            if (ok) chunk.add(cols[0], cols[1], cols[2]);
+            else if (!blank) chunk.skipped++;
+        }
+
+        return chunk;
+    }
+
+    //*** Same set String.trim() removes, minus the line terminators ***//
+    private static boolean isSpace(byte b)
+    {
+        return (b & 0xFF) <= ' ' && b != '\n' && b != '\r';
+    }
+}
@@ -0,0 +1,231 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Multi-level feedback queue: new jobs enter the top level, a job that uses up its level's quantum moves ***//
+//*** one level down (the last level is plain round robin), a higher level always preempts a lower one, and every ***//
+//*** boostInterval time units all jobs go back to the top so long jobs cannot starve ***//
+public class MlfqScheduler implements Scheduler
+{
+    private final int[] quanta;
+    private final int boostInterval;
+
+    public MlfqScheduler()
+    {
+        this(new int[] { 2, 4, 8 }, 100);
+    }
+
+    //*** quanta[i] is level i's time allotment; boostInterval 0 disables boosting ***//
+    public MlfqScheduler(int[] quanta, int boostInterval)
+    {
+        if (quanta.length == 0 || Arrays.stream(quanta).anyMatch(q -> q < 1) || boostInterval < 0)
+        {
+            throw new IllegalArgumentException("MLFQ needs at least one level, quanta >= 1 and boostInterval >= 0");
+        }
+
+        this.quanta = quanta.clone();
+        this.boostInterval = boostInterval;
+    }
+
+    @Override
+    public String name() { return "MLFQ"; }
+
+    @Override
+    public String parameters() { return "quanta=" + Arrays.toString(quanta).replaceAll("[\\[\\] ]", "") + ",boost=" + boostInterval; }
+
+    //*** Event-driven: re-decides at arrivals, quantum ends, boosts and completions ***//
+    @Override
+    public ScheduleResult run(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        int[] order = w.order(); //*** Zero-length jobs are left out, the rest sorted by arrival time ***//
+        int n = order.length;
+
+        if (n == 0)
+        {
+            return new ScheduleResult(Collections.emptyList(), new EventLog(verbosity, "--- MLFQ Scheduling ---", "(no jobs)"), 0, 0, 0, 0, 0);
+        }
+
+        int[] ids = w.ids(), arrivals = w.arrivals(), bursts = w.bursts();
+        int levels = quanta.length;
+        s.prepare(w.size(), n);
+        int[] rem = s.remaining;
+        int[] seq = s.vruntime = SchedulerScratch.ensure(s.vruntime, n); //*** Enqueue order, makes each heap a FIFO ***//
+        int[] level = s.level = SchedulerScratch.ensure(s.level, n);
+        int[] used = s.used = SchedulerScratch.ensure(s.used, n);
+
+        for (int k = 0; k < n; k++) rem[k] = bursts[order[k]];
+
+        s.prepareRunQueues(levels);
+        IntHeap[] queues = s.runQueues;
+
+        for (int l = 0; l < levels; l++) queues[l].reset((a, b) -> Integer.compare(seq[a], seq[b]));
+
+        int time = 0, completed = 0, busy = 0, nextArrivalIdx = 0, enqueued = 0, cur = -1;
+        long nextBoost = boostInterval > 0 ? boostInterval : Long.MAX_VALUE;
+        double totalWT = 0, totalTAT = 0;
+        LatencyStats latency = new LatencyStats();
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+
+        List<ExecutionSegment> segs = new ArrayList<>();
+        EventLog log = new EventLog(verbosity, "--- MLFQ Scheduling ---");
+        SchedulerProbe probe = SchedulerProbe.start("MLFQ", n);
+
+        int lastPid = -1, lastRem = 0;
+
+        while (completed < n)
+        {
+            //*** Priority boost: every waiting job moves to the top level, lower levels keeping their FIFO order ***//
+            if (time >= nextBoost)
+            {
+                for (int l = 1; l < levels; l++)
+                {
+                    while (!queues[l].isEmpty())
+                    {
+                        int k = queues[l].poll();
+                        level[k] = 0;
+                        used[k] = 0;
+                        seq[k] = enqueued++;
+                        queues[0].add(k);
+                    }
+                }
+
+                if (cur >= 0)
+                {
+                    level[cur] = 0;
+                    used[cur] = 0;
+                }
+
+                nextBoost = (time / boostInterval + 1L) * boostInterval;
+            }
+
+            //*** Admit arrivals into the top level; they preempt a job running further down ***//
+            while (nextArrivalIdx < n && arrivals[order[nextArrivalIdx]] <= time)
+            {
+                int k = nextArrivalIdx++;
+                level[k] = 0;
+                used[k] = 0;
+                seq[k] = enqueued++;
+                queues[0].add(k);
+
+                if (cur >= 0 && level[cur] > 0)
+                {
+                    seq[cur] = enqueued++;
+                    queues[level[cur]].add(cur); //*** Keeps what it used of its allotment ***//
+                    cur = -1;
+                }
+            }
+
+            probe.queueDepth(time, nextArrivalIdx - completed - (cur >= 0 ? 1 : 0));
+
+            boolean sampled = false;
+            long selectStart = 0;
+
+            if (cur < 0)
+            {
+                int l = 0;
+
+                while (l < levels && queues[l].isEmpty()) l++;
+
+                if (l == levels)
+                {
+                    time = arrivals[order[nextArrivalIdx]]; //*** Idle CPU, jump to next arrival ***//
+
+                    continue;
+                }
+
+                sampled = probe.sampleDispatch();
+                selectStart = sampled ? System.nanoTime() : 0;
+                cur = queues[l].poll();
+            }
+
+            int row = order[cur], pid = ids[row];
+            int run = Math.min(rem[cur], quanta[level[cur]] - used[cur]);
+
+            if (nextArrivalIdx < n)
+            {
+                run = Math.min(run, arrivals[order[nextArrivalIdx]] - time);
+            }
+
+            run = (int) Math.min(run, nextBoost - time);
+
+            long logStart = sampled ? System.nanoTime() : 0;
+            boolean isStart = rem[cur] == bursts[row];
+
+            if (isStart) latency.started(arrivals[row], time);
+
+            if (log.enabled())
+            {
+                boolean isInterrupted = lastPid != -1 && pid != lastPid && lastRem > 0;
+                boolean isResuming = !isStart && !isInterrupted && pid != lastPid;
+                boolean wasEnd = rem[cur] == run;
+
+                int flags = (isStart ? EventLog.START : 0) | (isInterrupted ? EventLog.INTERRUPT : 0)
+                        | (isResuming ? EventLog.RESUME : 0) | (wasEnd ? EventLog.END : 0);
+
+                log.slice(flags, time, pid, run, lastPid);
+
+                lastPid = pid;
+                lastRem = rem[cur] - run;
+            }
+
+            if (sampled) probe.dispatched(selectStart, logStart, time, pid, nextArrivalIdx - completed - 1);
+
+            //*** Record execution segment for Gantt chart ***//
+            if (!segs.isEmpty() && segs.getLast().id == pid && segs.getLast().start + segs.getLast().duration == time)
+            {
+                segs.getLast().duration += run;
+            }
+
+            else
+            {
+                segs.add(new ExecutionSegment(pid, time, run));
+            }
+
+            rem[cur] -= run;
+            used[cur] += run;
+            busy += run;
+            time += run;
+
+            if (rem[cur] == 0)
+            {
+                completed++;
+                s.completion[row] = time;
+                int tat = time - arrivals[row];
+                int wt  = tat - bursts[row];
+                totalTAT += tat;
+                totalWT  += wt;
+                latency.completed(arrivals[row], bursts[row], time);
+                cur = -1;
+
+                if (completed == nextReport || completed == n)
+                {
+                    probe.progress(time, completed);
+                    progress.progress(completed, n);
+                    nextReport += reportEvery;
+                }
+            }
+
+            else if (used[cur] == quanta[level[cur]])
+            {
+                //*** Allotment used up: demote (the last level just rotates) ***//
+                if (level[cur] < levels - 1) level[cur]++;
+
+                used[cur] = 0;
+                seq[cur] = enqueued++;
+                queues[level[cur]].add(cur);
+                cur = -1;
+            }
+        }
+
+        //*** Calculate metrics ***//
+        double avgWT      = totalWT / n;
+        double avgTAT     = totalTAT / n;
+        double cpuUtil    = (double) busy / time;
+        double throughput = (double) n / time;
+
+        ScheduleResult res = new ScheduleResult(segs, log, avgWT, avgTAT, cpuUtil, throughput, time, latency);
+        probe.finish(res);
+
+        return res;
+    }
+}
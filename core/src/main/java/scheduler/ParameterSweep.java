@@ -0,0 +1,164 @@
+package scheduler;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//*** Monte Carlo sweep: for every (process count, load, burst distribution) point, schedules reps seeded ***//
+//*** random workloads with every algorithm and folds avgWT / avgTAT into running aggregates. Only the ***//
+//*** aggregates are kept; each run's segments are dropped as soon as its metrics are read. ***//
+//*** Seeds are derived from (seed, point, rep) and merges follow a fixed fork-join tree, so the output ***//
+//*** does not depend on thread timing. ***//
+public class ParameterSweep
+{
+    //*** One grid point: workload parameters plus per-algorithm aggregates ***//
+    public static class Point
+    {
+        public final int processes;
+        public final double load;
+        public final WorkloadGenerator.Bursts bursts;
+        public final Map<Scheduler, RunningStats> waiting = new LinkedHashMap<>();
+        public final Map<Scheduler, RunningStats> turnaround = new LinkedHashMap<>();
+
+        Point(int processes, double load, WorkloadGenerator.Bursts bursts)
+        {
+            this.processes = processes;
+            this.load = load;
+            this.bursts = bursts;
+        }
+    }
+
+    private final List<Scheduler> algos;
+    private final WorkloadGenerator.Arrivals arrivals;
+    private final double meanBurst;
+    private final int reps;
+    private final long seed;
+
+    public ParameterSweep(List<Scheduler> algos, WorkloadGenerator.Arrivals arrivals, double meanBurst, int reps, long seed)
+    {
+        this.algos = List.copyOf(algos);
+        this.arrivals = arrivals;
+        this.meanBurst = meanBurst;
+        this.reps = reps;
+        this.seed = seed;
+    }
+
+    //*** Runs the full grid; progress counts finished workloads (each run by every algorithm) ***//
+    public List<Point> run(int[] processCounts, double[] loads, List<WorkloadGenerator.Bursts> bursts, ForkJoinPool pool, ProgressListener progress)
+    {
+        List<Point> points = new ArrayList<>();
+
+        for (int n : processCounts)
+            for (double load : loads)
+                for (WorkloadGenerator.Bursts b : bursts)
+                    points.add(new Point(n, load, b));
+
+        int total = points.size() * reps;
+        AtomicInteger done = new AtomicInteger();
+        ThreadLocal<SchedulerScratch> scratch = ThreadLocal.withInitial(SchedulerScratch::new);
+
+        for (int p = 0; p < points.size(); p++)
+        {
+            Point point = points.get(p);
+            Aggregate agg = pool.invoke(new Reps(point, p, 0, reps, scratch, done, total, progress));
+
+            for (int a = 0; a < algos.size(); a++)
+            {
+                point.waiting.put(algos.get(a), agg.waiting[a]);
+                point.turnaround.put(algos.get(a), agg.turnaround[a]);
+            }
+        }
+
+        return points;
+    }
+
+    //*** SplitMix64 finaliser: decorrelates neighbouring (point, rep) pairs ***//
+    static long mix(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+
+        return z ^ (z >>> 31);
+    }
+
+    private class Aggregate
+    {
+        final RunningStats[] waiting = new RunningStats[algos.size()], turnaround = new RunningStats[algos.size()];
+
+        Aggregate()
+        {
+            for (int a = 0; a < algos.size(); a++)
+            {
+                waiting[a] = new RunningStats();
+                turnaround[a] = new RunningStats();
+            }
+        }
+
+        Aggregate merge(Aggregate o)
+        {
+            for (int a = 0; a < algos.size(); a++)
+            {
+                waiting[a].merge(o.waiting[a]);
+                turnaround[a].merge(o.turnaround[a]);
+            }
+
+            return this;
+        }
+    }
+
+    //*** Splits the rep range in halves down to single simulations ***//
+    @SuppressWarnings("serial") //*** Serializable only through ForkJoinTask; never serialized ***//
+    private class Reps extends RecursiveTask<Aggregate>
+    {
+        private final Point point;
+        private final int pointIdx, from, to, total;
+        private final ThreadLocal<SchedulerScratch> scratch;
+        private final AtomicInteger done;
+        private final ProgressListener progress;
+
+        Reps(Point point, int pointIdx, int from, int to, ThreadLocal<SchedulerScratch> scratch, AtomicInteger done, int total, ProgressListener progress)
+        {
+            this.point = point;
+            this.pointIdx = pointIdx;
+            this.from = from;
+            this.to = to;
+            this.scratch = scratch;
+            this.done = done;
+            this.total = total;
+            this.progress = progress;
+        }
+
+        @Override
+        protected Aggregate compute()
+        {
+            if (to - from > 1)
+            {
+                int mid = (from + to) >>> 1;
+                Reps left = new Reps(point, pointIdx, from, mid, scratch, done, total, progress);
+                left.fork();
+                Aggregate right = new Reps(point, pointIdx, mid, to, scratch, done, total, progress).compute();
+
+                return left.join().merge(right);
+            }
+
+            Aggregate agg = new Aggregate();
+
+            if (from == to) return agg;
+
+            long s = mix(seed ^ mix(((long) pointIdx << 32) | from));
+            Workload w = WorkloadGenerator.generate(point.processes, arrivals, point.bursts, meanBurst, point.load, s);
+
+            for (int a = 0; a < algos.size(); a++)
+            {
+                ScheduleResult r = algos.get(a).run(w, scratch.get(), EventLog.Verbosity.OFF, ProgressListener.NONE);
+                agg.waiting[a].add(r.avgWT);
+                agg.turnaround[a].add(r.avgTAT);
+            }
+
+            progress.progress(done.incrementAndGet(), total);
+
+            return agg;
+        }
+    }
+}
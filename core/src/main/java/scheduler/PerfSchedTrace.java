@@ -0,0 +1,416 @@
+package scheduler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+//*** Turns Linux scheduler traces (perf script output of perf sched record, or ftrace text with sched_switch and ***//
+//*** sched_wakeup) into a Workload, in one pass over the lines. Each CPU burst of a thread becomes one job: it ***//
+//*** arrives when the thread is woken (or first seen runnable) and ends when the thread switches out without ***//
+//*** being runnable, i.e. it blocks or exits; preemptions in between only split its run time. Job ids are ***//
+//*** numbered from 1 in order of arrival and tids maps them back to the Linux TID (the pid field of the events) ***//
+//*** Only threads that are runnable right now are held in memory, so the pass is bounded by the system, not by ***//
+//*** the file; the job columns are the output itself. Times are trace time since the first event, in units of ***//
+//*** unitNanos. The recorded timeline comes back as a baseline ScheduleResult (an SmpResult with one lane per ***//
+//*** CPU, balance null, when several CPUs ran), with the same metrics the schedulers report for the jobs ***//
+public class PerfSchedTrace
+{
+    private static final String SWITCH = "sched_switch:", WAKEUP = "sched_wakeup:", WAKEUP_NEW = "sched_wakeup_new:";
+
+    public static class Result
+    {
+        public final Workload workload;
+        public final int[] tids, completion; //*** Per workload row ***//
+        public final ScheduleResult baseline;
+        public final long events, skipped;   //*** Scheduler events used, and sched_* lines that could not be parsed ***//
+        public final long unfinished;        //*** Bursts still runnable when the trace ends (or moved off the traced CPU): left out ***//
+
+        Result(Workload workload, int[] tids, int[] completion, ScheduleResult baseline, long events, long skipped, long unfinished)
+        {
+            this.workload = workload;
+            this.tids = tids;
+            this.completion = completion;
+            this.baseline = baseline;
+            this.events = events;
+            this.skipped = skipped;
+            this.unfinished = unfinished;
+        }
+    }
+
+    //*** A runnable thread's current burst ***//
+    private static final class Burst
+    {
+        final int id, arrival;
+        int ran, firstRun = -1, runStart = -1, runCpu = -1;
+
+        Burst(int id, int arrival)
+        {
+            this.id = id;
+            this.arrival = arrival;
+        }
+    }
+
+    //*** True when the first 64 KB hold a sched_switch event ***//
+    public static boolean isSchedTrace(Path file) throws IOException
+    {
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1))
+        {
+            char[] head = new char[1 << 16];
+            int n = 0, k;
+
+            while (n < head.length && (k = r.read(head, n, head.length - n)) > 0) n += k;
+
+            return new String(head, 0, n).contains(SWITCH);
+        }
+    }
+
+    //*** progress (may be null) receives the fraction of the file read ***//
+    public static Result read(Path file, int cpu, long unitNanos, boolean withSegments, EventLog.Verbosity verbosity, DoubleConsumer progress) throws IOException
+    {
+        long size = Math.max(1, Files.size(file));
+
+        try (Reader r = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1))
+        {
+            return read(r, cpu, unitNanos, withSegments, verbosity, progress == null ? null : bytes -> progress.accept(Math.min(1.0, bytes / (double) size)));
+        }
+    }
+
+    //*** cpu < 0 keeps every CPU; otherwise only bursts run on that CPU count and wakeups aimed elsewhere are ignored ***//
+    //*** withSegments keeps the baseline's Gantt segments (one object per run slice); without them it has metrics only ***//
+    public static Result read(Reader in, int cpu, long unitNanos, boolean withSegments, EventLog.Verbosity verbosity, LongConsumer bytesRead) throws IOException
+    {
+        if (unitNanos < 1) throw new IllegalArgumentException("time unit must be at least 1 ns");
+
+        return new PerfSchedTrace(cpu, unitNanos, withSegments, verbosity).parse(new BufferedReader(in, 1 << 16), bytesRead);
+    }
+
+    private final int cpu;
+    private final long unitNanos;
+    private final boolean withSegments;
+    private final Map<Integer, Burst> runnable = new HashMap<>(); //*** By TID ***//
+    private final Map<Integer, Burst> running = new HashMap<>();  //*** By CPU ***//
+    private final Map<Integer, Integer> lanes = new TreeMap<>();  //*** CPU number -> lane, in order of first use ***//
+    private final List<List<ExecutionSegment>> segments = new ArrayList<>();
+    private final List<Long> busy = new ArrayList<>();
+    private final EventLog log;
+    private final LatencyStats latency = new LatencyStats();
+
+    private int[] ids = new int[1024], arrivals = new int[1024], bursts = new int[1024], tids = new int[1024], completion = new int[1024];
+    private int rows, nextId = 1, now;
+    private long unfinished;
+    private double sumWT, sumTAT;
+
+    private PerfSchedTrace(int cpu, long unitNanos, boolean withSegments, EventLog.Verbosity verbosity)
+    {
+        this.cpu = cpu;
+        this.unitNanos = unitNanos;
+        this.withSegments = withSegments;
+        this.log = new EventLog(verbosity, "Recorded trace:");
+    }
+
+    private Result parse(BufferedReader br, LongConsumer bytesRead) throws IOException
+    {
+        long origin = Long.MIN_VALUE, events = 0, skipped = 0, bytes = 0, lastReport = 0;
+        String line;
+
+        while ((line = br.readLine()) != null)
+        {
+            bytes += line.length() + 1;
+
+            if (bytesRead != null && bytes - lastReport > (8 << 20))
+            {
+                bytesRead.accept(bytes);
+                lastReport = bytes;
+            }
+
+            int at = line.indexOf(SWITCH);
+            boolean isSwitch = at >= 0;
+
+            if (!isSwitch) at = line.indexOf(WAKEUP);
+            if (at < 0) at = line.indexOf(WAKEUP_NEW);
+
+            if (at < 0) continue; //*** Other events, headers, comments ***//
+
+            long ns = timestamp(line, at);
+            int eventCpu = cpuOf(line, at);
+            String payload = line.substring(line.indexOf(':', at) + 1);
+            int pid = -1, nextPid = -1, target = -1;
+            boolean stillRunnable = false;
+
+            try
+            {
+                if (isSwitch)
+                {
+                    int arrow = payload.indexOf("==>");
+                    String prev = payload.substring(0, arrow), next = payload.substring(arrow + 3);
+
+                    if (prev.contains("prev_pid="))
+                    {
+                        pid = intAfter(prev, "prev_pid=");
+                        stillRunnable = stateAfter(prev, "prev_state=").startsWith("R");
+                    }
+
+                    else //*** Older perf: "comm:pid [prio] state ==> comm:pid [prio]" ***//
+                    {
+                        int bracket = prev.lastIndexOf('[');
+                        pid = pidBefore(prev, bracket);
+                        stillRunnable = prev.substring(prev.indexOf(']', bracket) + 1).trim().startsWith("R");
+                    }
+
+                    nextPid = next.contains("next_pid=") ? intAfter(next, "next_pid=") : pidBefore(next, next.lastIndexOf('['));
+                }
+
+                else
+                {
+                    pid = payload.contains(" pid=") ? intAfter(payload, " pid=") : pidBefore(payload, payload.indexOf(" ["));
+                    target = payload.contains("target_cpu=") ? intAfter(payload, "target_cpu=") : payload.contains("CPU:") ? intAfter(payload, "CPU:") : -1;
+                }
+            }
+
+            catch (RuntimeException ex)
+            {
+                ns = -1; //*** Malformed payload ***//
+            }
+
+            if (ns < 0 || eventCpu < 0)
+            {
+                skipped++;
+
+                continue;
+            }
+
+            if (origin == Long.MIN_VALUE) origin = ns;
+
+            long units = (ns - origin) / unitNanos;
+
+            if (units > Integer.MAX_VALUE) throw new IllegalArgumentException("trace is longer than Integer.MAX_VALUE time units; use a coarser unit");
+
+            now = Math.max(now, (int) units); //*** Per-CPU buffers can be a little out of order across CPUs ***//
+            events++;
+
+            if (isSwitch) switched(eventCpu, pid, stillRunnable, nextPid);
+            else if (pid > 0 && (cpu < 0 || target < 0 || target == cpu)) runnable.computeIfAbsent(pid, p -> new Burst(nextId++, now));
+        }
+
+        if (bytesRead != null) bytesRead.accept(bytes);
+
+        //*** Threads still runnable at the end: their last run is part of the timeline, their burst is left out ***//
+        for (Burst b : runnable.values())
+        {
+            stop(b, 0);
+            unfinished++;
+        }
+
+        return new Result(new Workload(Arrays.copyOf(ids, rows), Arrays.copyOf(arrivals, rows), Arrays.copyOf(bursts, rows)),
+                Arrays.copyOf(tids, rows), Arrays.copyOf(completion, rows), baseline(), events, skipped, unfinished);
+    }
+
+    //*** sched_switch on eventCpu: pid leaves (still runnable when only preempted), nextPid starts; 0 is the idle task ***//
+    private void switched(int eventCpu, int pid, boolean stillRunnable, int nextPid)
+    {
+        if (cpu >= 0 && eventCpu != cpu)
+        {
+            //*** A thread starting elsewhere has left the traced CPU; its burst can no longer be followed ***//
+            Burst gone = nextPid > 0 ? runnable.remove(nextPid) : null;
+
+            if (gone != null)
+            {
+                stop(gone, 0);
+                unfinished++;
+            }
+
+            return;
+        }
+
+        //*** Whatever this CPU was running stops here, even if a lost event means it is not pid ***//
+        Burst current = running.get(eventCpu), b = pid > 0 ? runnable.get(pid) : null;
+
+        if (current != null && current != b) stop(current, 0);
+
+        if (b != null) stop(b, stillRunnable ? 0 : EventLog.END);
+
+        if (pid > 0 && !stillRunnable)
+        {
+            runnable.remove(pid);
+
+            if (b != null && b.ran > 0) complete(b, pid);
+        }
+
+        else if (pid > 0 && b == null)
+        {
+            runnable.put(pid, new Burst(nextId++, now)); //*** First seen while preempted: waiting from here on ***//
+        }
+
+        if (nextPid > 0)
+        {
+            Burst n = runnable.computeIfAbsent(nextPid, p -> new Burst(nextId++, now)); //*** Wakeup not captured, or before the trace ***//
+
+            stop(n, 0); //*** Still marked as running on another CPU: that event was lost ***//
+
+            if (n.firstRun < 0)
+            {
+                n.firstRun = now;
+                latency.started(n.arrival, now);
+            }
+
+            n.runStart = now;
+            n.runCpu = eventCpu;
+            running.put(eventCpu, n);
+        }
+    }
+
+    //*** Ends b's current run, if any, as a slice of its CPU's lane; flag is END when the burst is over ***//
+    private void stop(Burst b, int flag)
+    {
+        if (b.runStart < 0) return;
+
+        int ranFor = now - b.runStart, lane = lanes.computeIfAbsent(b.runCpu, c -> lanes.size());
+
+        while (segments.size() <= lane)
+        {
+            segments.add(new ArrayList<>());
+            busy.add(0L);
+        }
+
+        if (ranFor > 0)
+        {
+            busy.set(lane, busy.get(lane) + ranFor);
+
+            if (withSegments) segments.get(lane).add(new ExecutionSegment(b.id, b.runStart, ranFor));
+
+            log.slice((b.ran == 0 ? EventLog.START : EventLog.RESUME) | flag, b.runStart, b.id, ranFor, -1);
+            b.ran += ranFor;
+        }
+
+        running.remove(b.runCpu, b);
+        b.runStart = -1;
+    }
+
+    //*** b blocked or exited: one finished job ***//
+    private void complete(Burst b, int pid)
+    {
+        if (rows == ids.length)
+        {
+            int cap = rows * 2;
+            ids = Arrays.copyOf(ids, cap);
+            arrivals = Arrays.copyOf(arrivals, cap);
+            bursts = Arrays.copyOf(bursts, cap);
+            tids = Arrays.copyOf(tids, cap);
+            completion = Arrays.copyOf(completion, cap);
+        }
+
+        ids[rows] = b.id;
+        arrivals[rows] = b.arrival;
+        bursts[rows] = b.ran;
+        tids[rows] = pid;
+        completion[rows++] = now;
+
+        sumWT += now - b.arrival - b.ran;
+        sumTAT += now - b.arrival;
+        latency.completed(b.arrival, b.ran, now);
+    }
+
+    //*** The recorded timeline with lanes in CPU order ***//
+    private ScheduleResult baseline()
+    {
+        List<List<ExecutionSegment>> ordered = new ArrayList<>();
+        double[] coreUtil = new double[Math.max(1, lanes.size())];
+        long totalBusy = 0;
+
+        for (int lane : lanes.values())
+        {
+            List<ExecutionSegment> s = segments.get(lane);
+            s.sort(Comparator.comparingInt(x -> x.start)); //*** Runs are closed in event order, not start order ***//
+            coreUtil[ordered.size()] = now == 0 ? 0 : busy.get(lane) / (double) now;
+            totalBusy += busy.get(lane);
+            ordered.add(s);
+        }
+
+        if (ordered.isEmpty()) ordered.add(new ArrayList<>());
+
+        double avgWT = rows == 0 ? 0 : sumWT / rows, avgTAT = rows == 0 ? 0 : sumTAT / rows;
+        double cpuUtil = now == 0 ? 0 : totalBusy / ((double) now * ordered.size()), throughput = now == 0 ? 0 : rows / (double) now;
+
+        return ordered.size() == 1
+                ? new ScheduleResult(ordered.getFirst(), log, avgWT, avgTAT, cpuUtil, throughput, now, latency)
+                : new SmpResult(ordered.size(), null, ordered, log, avgWT, avgTAT, cpuUtil, throughput, now, coreUtil, latency, 0);
+    }
+
+    //*** "12345.678901:" just before the event name (after an optional "sched:"), in nanoseconds; -1 if absent ***//
+    private static long timestamp(String line, int at)
+    {
+        int end = at;
+
+        if (end >= 6 && line.startsWith("sched:", end - 6)) end -= 6;
+
+        while (end > 0 && line.charAt(end - 1) == ' ') end--;
+
+        if (end == 0 || line.charAt(end - 1) != ':') return -1;
+
+        int start = line.lastIndexOf(' ', end - 1) + 1;
+        long secs = 0, frac = 0;
+        int digits = -1;
+
+        for (int i = start; i < end - 1; i++)
+        {
+            char c = line.charAt(i);
+
+            if (c == '.' && digits < 0) digits = 0;
+            else if (c < '0' || c > '9') return -1;
+            else if (digits < 0) secs = secs * 10 + (c - '0');
+            else if (digits < 9) { frac = frac * 10 + (c - '0'); digits++; }
+        }
+
+        for (int d = Math.max(0, digits); d < 9; d++) frac *= 10;
+
+        return secs * 1_000_000_000L + frac;
+    }
+
+    //*** "[003]" in the header before the event; -1 if there is none ***//
+    private static int cpuOf(String line, int at)
+    {
+        int open = line.lastIndexOf('[', at), close = open < 0 ? -1 : line.indexOf(']', open);
+
+        if (close < 0 || close > at) return -1;
+
+        try
+        {
+            return Integer.parseInt(line.substring(open + 1, close).trim());
+        }
+
+        catch (NumberFormatException ex)
+        {
+            return -1;
+        }
+    }
+
+    private static int intAfter(String s, String key)
+    {
+        int i = s.indexOf(key) + key.length(), j = i;
+
+        while (j < s.length() && (Character.isDigit(s.charAt(j)) || (j == i && s.charAt(j) == '-'))) j++;
+
+        return Integer.parseInt(s.substring(i, j));
+    }
+
+    private static String stateAfter(String s, String key)
+    {
+        int i = s.indexOf(key) + key.length(), j = s.indexOf(' ', i);
+
+        return s.substring(i, j < 0 ? s.length() : j).trim();
+    }
+
+    //*** "comm:pid" ending before position end ***//
+    private static int pidBefore(String s, int end)
+    {
+        String head = s.substring(0, end).trim();
+
+        return Integer.parseInt(head.substring(head.lastIndexOf(':') + 1));
+    }
+}
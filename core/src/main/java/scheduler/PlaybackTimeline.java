@@ -0,0 +1,204 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Who is waiting and who is running at a playhead moving through a finished schedule, on one CPU or several ***//
+//*** A job is live from its arrival until its completion, taken per workload row from the run since ids may ***//
+//*** repeat; the live set only changes at those two events, so the playhead keeps it as a bitset (rows in ***//
+//*** arrival order) and applies events one by one as it moves, in either direction. A copy of the bitset is ***//
+//*** kept every interval events, so a long seek restores the nearest copy and replays at most interval events ***//
+//*** instead of starting again from t=0. The copies are spaced so that together they stay under SNAPSHOT_BYTES ***//
+//*** One playhead per timeline; not thread-safe ***//
+public final class PlaybackTimeline
+{
+    public static final long SNAPSHOT_BYTES = 16L << 20;
+
+    private final SegmentIndex[] cpus;     //*** One lane per CPU, to see who is running ***//
+    private final int[] rowIds;            //*** Process id per rank (arrival order) ***//
+    private final int[] runningIds;        //*** Scratch for ready(): id per CPU, cleared as rows claim them ***//
+    private final int[] eventTimes, events; //*** Time order; rank + 1 for an arrival, -(rank + 1) for a completion ***//
+    private final int interval;
+    private final long[][] snapshots;      //*** Live set after snapshot k * interval events ***//
+    private final int[] snapshotLive;
+
+    private BitSet live = new BitSet();
+    private int liveCount, applied; //*** Events applied so far ***//
+    private double time;
+
+    //*** completion is per workload row, -1 for rows that never ran (SchedulerScratch.completionTimes) ***//
+    public PlaybackTimeline(Workload w, int[] completion, List<SegmentIndex> cpus)
+    {
+        if (completion.length < w.size()) throw new IllegalArgumentException("completion times for " + completion.length + " of " + w.size() + " rows");
+
+        this.cpus = cpus.toArray(new SegmentIndex[0]);
+        runningIds = new int[this.cpus.length];
+        int[] order = w.order();
+        int n = order.length;
+        rowIds = new int[n];
+
+        long[] arrivals = new long[n], completions = new long[n];
+        int m = 0;
+
+        for (int r = 0; r < n; r++)
+        {
+            int arrival = w.arrival(order[r]), done = completion[order[r]];
+            rowIds[r] = w.id(order[r]);
+
+            if (done <= arrival) continue; //*** Never ran: never waits either ***//
+
+            arrivals[m] = ((long) arrival << 32) | r;
+            completions[m++] = ((long) done << 32) | r;
+        }
+
+        Arrays.sort(completions, 0, m); //*** Arrivals are in order already ***//
+
+        //*** Merge both streams by time ***//
+        eventTimes = new int[2 * m];
+        events = new int[2 * m];
+
+        for (int a = 0, c = 0, e = 0; e < 2 * m; e++)
+        {
+            boolean arrival = c == m || (a < m && (arrivals[a] >> 32) <= (completions[c] >> 32));
+            long key = arrival ? arrivals[a++] : completions[c++];
+            eventTimes[e] = (int) (key >> 32);
+            events[e] = arrival ? (int) key + 1 : -((int) key + 1);
+        }
+
+        long perSnapshot = n / 8 + 16;
+        int maxSnapshots = (int) Math.max(1, Math.min(Integer.MAX_VALUE - 8, SNAPSHOT_BYTES / perSnapshot));
+        interval = Math.max(64, (int) Math.ceil((double) events.length / maxSnapshots));
+
+        int count = events.length / interval + 1;
+        snapshots = new long[count][];
+        snapshotLive = new int[count];
+
+        for (int k = 0; k < count; k++)
+        {
+            apply(k * interval);
+            snapshots[k] = live.toLongArray();
+            snapshotLive[k] = liveCount;
+        }
+
+        seek(0);
+    }
+
+    //*** Timeline of a finished run: every CPU's lane for a multi-CPU result, else the result's own ***//
+    public static PlaybackTimeline of(Workload w, int[] completion, ScheduleResult res)
+    {
+        if (!(res instanceof SmpResult smp)) return new PlaybackTimeline(w, completion, List.of(res.index()));
+
+        List<SegmentIndex> lanes = new ArrayList<>();
+
+        for (int c = 0; c < smp.lanes.size(); c++) lanes.add(c == 0 ? res.index() : SegmentIndex.of(smp.lanes.get(c)));
+
+        return new PlaybackTimeline(w, completion, lanes);
+    }
+
+    //*** Moves the playhead to t: a short move steps through the events in between, a long one starts from a snapshot ***//
+    public void seek(double t)
+    {
+        time = t;
+        int target = upperBound(t);
+
+        if (Math.abs(target - applied) > interval)
+        {
+            int k = target / interval;
+            live = BitSet.valueOf(snapshots[k]);
+            liveCount = snapshotLive[k];
+            applied = k * interval;
+        }
+
+        apply(target);
+    }
+
+    //*** Steps forwards or backwards until exactly target events are applied ***//
+    private void apply(int target)
+    {
+        for (; applied < target; applied++) toggle(events[applied], true);
+
+        for (; applied > target; applied--) toggle(events[applied - 1], false);
+    }
+
+    private void toggle(int event, boolean forward)
+    {
+        int r = Math.abs(event) - 1;
+        boolean set = (event > 0) == forward;
+
+        if (set) live.set(r); else live.clear(r);
+
+        liveCount += set ? 1 : -1;
+    }
+
+    //*** Events with a time <= t ***//
+    private int upperBound(double t)
+    {
+        int lo = 0, hi = eventTimes.length;
+
+        while (lo < hi)
+        {
+            int mid = (lo + hi) >>> 1;
+
+            if (eventTimes[mid] <= t) lo = mid + 1; else hi = mid;
+        }
+
+        return lo;
+    }
+
+    public double time() { return time; }
+
+    public int cpus() { return cpus.length; }
+
+    //*** Id on the CPU at the playhead, ExecutionSegment.OVERHEAD during a switch, -1 when idle ***//
+    public int running(int cpu)
+    {
+        int seg = cpus[cpu].at(time);
+
+        return seg < 0 ? -1 : cpus[cpu].id(seg);
+    }
+
+    //*** Live jobs that no CPU is running ***//
+    public int readyCount()
+    {
+        int busy = 0;
+
+        for (int c = 0; c < cpus.length; c++)
+        {
+            int id = running(c);
+
+            if (id != -1 && id != ExecutionSegment.OVERHEAD) busy++;
+        }
+
+        return Math.max(0, liveCount - busy);
+    }
+
+    //*** Fills out with the first waiting ids in arrival order; returns how many were written. A running id ***//
+    //*** hides one live row with that id, the earliest, since the segments do not say which of them it is ***//
+    public int ready(int[] out)
+    {
+        for (int c = 0; c < cpus.length; c++) runningIds[c] = running(c);
+
+        int k = 0;
+
+        for (int r = live.nextSetBit(0); r >= 0 && k < out.length; r = live.nextSetBit(r + 1))
+        {
+            if (!takeRunning(rowIds[r])) out[k++] = rowIds[r];
+        }
+
+        return k;
+    }
+
+    private boolean takeRunning(int id)
+    {
+        for (int c = 0; c < runningIds.length; c++)
+        {
+            if (runningIds[c] == id && id != -1 && id != ExecutionSegment.OVERHEAD)
+            {
+                runningIds[c] = -1;
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package scheduler;
+
+//*** Represents a process row with id, arrival time and burst time (runtime state lives in SchedulerScratch) ***//
+public class Process
+{
+    private final int id, arrivalTime, burstTime;
+
+    public Process(int id, int arrival, int burst)
+    {
+        this.id = id;
+        this.arrivalTime = arrival;
+        this.burstTime = burst;
+    }
+
+    public int getId() { return id; }
+    public int getArrivalTime() { return arrivalTime; }
+    public int getBurstTime() { return burstTime; }
+}
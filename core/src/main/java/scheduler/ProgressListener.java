@@ -0,0 +1,17 @@
+package scheduler;
+
+//*** Lightweight progress callback for long runs, invoked on the scheduling thread ***//
+//*** A listener may throw (e.g. CancellationException) to abort the run ***//
+@FunctionalInterface
+public interface ProgressListener
+{
+    ProgressListener NONE = (completed, total) -> { };
+
+    void progress(int completed, int total);
+
+    //*** Completions between two callbacks, about 200 reports per run ***//
+    static int interval(int total)
+    {
+        return Math.max(1, total / 200);
+    }
+}
@@ -0,0 +1,173 @@
+package scheduler;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+//*** LRU cache of finished runs keyed by workload content, algorithm (with its parameters) and log verbosity ***//
+//*** Bounded by an estimate of the retained bytes; evicted runs can optionally spill to .sched files in a directory, ***//
+//*** which only works for runs without a log since the trace format does not store one. Thread-safe ***//
+public class ResultCache
+{
+    //*** A cached run; treat as read-only, the same objects are handed to every caller ***//
+    public static final class Entry
+    {
+        public final Workload workload;
+        public final ScheduleResult result;
+        public final int[] completion;
+        final long bytes;
+
+        Entry(Workload workload, ScheduleResult result, int[] completion)
+        {
+            this.workload = workload;
+            this.result = result;
+            this.completion = completion;
+            this.bytes = workload.footprint() + 4L * completion.length + result.estimatedBytes() + 64;
+        }
+    }
+
+    private record Key(long fingerprint, int rows, String algorithm, EventLog.Verbosity verbosity) { }
+
+    private final long maxBytes;
+    private final Path spillDir; //*** null: evicted runs are dropped ***//
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); //*** Access order: eldest = least recently used ***//
+    private long bytes, hits, misses;
+
+    public ResultCache(long maxBytes)
+    {
+        this(maxBytes, null);
+    }
+
+    public ResultCache(long maxBytes, Path spillDir)
+    {
+        if (maxBytes < 0) throw new IllegalArgumentException("maxBytes must be >= 0");
+
+        this.maxBytes = maxBytes;
+        this.spillDir = spillDir;
+    }
+
+    //*** Cached run of algo on w, or null; a disk hit is promoted back into memory ***//
+    public synchronized Entry get(Workload w, Scheduler algo, EventLog.Verbosity verbosity)
+    {
+        Key key = key(w, algo, verbosity);
+        Entry e = entries.get(key);
+
+        if (e != null && !e.workload.sameRows(w)) e = null; //*** Fingerprint collision ***//
+        if (e == null) e = unspill(key, w, algo);
+
+        if (e == null)
+        {
+            misses++;
+
+            return null;
+        }
+
+        hits++;
+
+        return e;
+    }
+
+    //*** Remembers a run; completion[i] is row i's completion time. Runs larger than the whole budget are not kept ***//
+    public synchronized Entry put(Workload w, Scheduler algo, EventLog.Verbosity verbosity, ScheduleResult result, int[] completion)
+    {
+        Key key = key(w, algo, verbosity);
+        Entry e = new Entry(w, result, completion);
+        Entry old = entries.remove(key);
+
+        if (old != null) bytes -= old.bytes;
+
+        if (e.bytes > maxBytes)
+        {
+            spill(key, e);
+
+            return e;
+        }
+
+        entries.put(key, e);
+        bytes += e.bytes;
+
+        //*** Evict least recently used runs until the budget holds ***//
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+
+        while (bytes > maxBytes && it.hasNext())
+        {
+            Map.Entry<Key, Entry> eldest = it.next();
+            it.remove();
+            bytes -= eldest.getValue().bytes;
+            spill(eldest.getKey(), eldest.getValue());
+        }
+
+        return e;
+    }
+
+    //*** Drops every in-memory run; spilled files are kept ***//
+    public synchronized void clear()
+    {
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long bytes() { return bytes; }
+    public synchronized long hits() { return hits; }
+    public synchronized long misses() { return misses; }
+
+    private static Key key(Workload w, Scheduler algo, EventLog.Verbosity verbosity)
+    {
+        String params = algo.parameters();
+
+        return new Key(w.fingerprint(), w.size(), params.isEmpty() ? algo.name() : algo.name() + "(" + params + ")", verbosity);
+    }
+
+    private Path spillFile(Key key)
+    {
+        return spillDir.resolve(String.format("%016x-%08x%s", key.fingerprint(), key.algorithm().hashCode(), TraceFile.EXTENSION));
+    }
+
+    //*** Best effort: a run that cannot be written is simply dropped; an existing file already holds it ***//
+    private void spill(Key key, Entry e)
+    {
+        if (spillDir == null || key.verbosity() != EventLog.Verbosity.OFF) return;
+
+        Path file = spillFile(key);
+
+        try
+        {
+            if (Files.exists(file)) return;
+
+            Files.createDirectories(spillDir);
+            TraceFile.write(file, e.workload, key.algorithm(), e.result, e.completion);
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("Result cache: could not spill to " + spillDir + ": " + ex.getMessage());
+        }
+    }
+
+    private Entry unspill(Key key, Workload w, Scheduler algo)
+    {
+        if (spillDir == null || key.verbosity() != EventLog.Verbosity.OFF) return null;
+
+        Path file = spillFile(key);
+
+        if (!Files.isRegularFile(file)) return null;
+
+        try
+        {
+            TraceFile.Contents c = TraceFile.read(file);
+
+            if (c.result == null || !key.algorithm().equals(c.algorithm) || !c.workload.sameRows(w)) return null;
+
+            //*** Same empty log a fresh OFF run would carry ***//
+            c.result.log = new EventLog(EventLog.Verbosity.OFF, "--- " + algo.name() + " Scheduling ---");
+
+            return put(w, algo, key.verbosity(), c.result, c.completion);
+        }
+
+        catch (IOException ex)
+        {
+            return null; //*** Unreadable or stale file: recompute ***//
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package scheduler;
+
+//*** Streaming mean/variance (Welford, merged with Chan's formula) plus a LogHistogram for quantiles ***//
+public class RunningStats
+{
+    private long n;
+    private double mean, m2;
+    private final LogHistogram histogram = new LogHistogram();
+
+    public void add(double x)
+    {
+        n++;
+        double delta = x - mean;
+        mean += delta / n;
+        m2 += delta * (x - mean);
+        histogram.record(x);
+    }
+
+    public void merge(RunningStats o)
+    {
+        if (o.n == 0) return;
+
+        long total = n + o.n;
+        double delta = o.mean - mean;
+        mean += delta * o.n / total;
+        m2 += o.m2 + delta * delta * n * o.n / total;
+        n = total;
+        histogram.merge(o.histogram);
+    }
+
+    public long count() { return n; }
+    public double mean() { return mean; }
+    public double variance() { return n > 1 ? m2 / (n - 1) : 0; } //*** Sample variance ***//
+    public double quantile(double q) { return histogram.quantile(q); }
+    public double min() { return histogram.min(); }
+    public double max() { return histogram.max(); }
+}
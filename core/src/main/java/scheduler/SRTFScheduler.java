@@ -0,0 +1,226 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Implements Shortest Remaining Time First ***//
+//*** Event-driven: the CPU only re-decides at arrivals and completions, ready jobs sit in a min-heap ***//
+//*** With a SwitchCost, putting a different job on the CPU first runs an overhead segment; arrivals during it ***//
+//*** are only looked at once it is over, and a shorter one then takes the CPU without a second switch ***//
+public class SRTFScheduler implements Scheduler
+{
+    private final SwitchCost cost;
+
+    public SRTFScheduler()
+    {
+        this(SwitchCost.NONE);
+    }
+
+    public SRTFScheduler(SwitchCost cost)
+    {
+        this.cost = cost;
+    }
+
+    @Override
+    public String name() { return "SRTF"; }
+
+    @Override
+    public String parameters() { return cost.isFree() ? "" : cost.toString(); }
+
+    @Override
+    public ScheduleResult run(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        return schedule(w, s, verbosity, progress, cost);
+    }
+
+    public static ScheduleResult schedule(List<Process> jobs)
+    {
+        return schedule(Workload.of(jobs), new SchedulerScratch(), EventLog.Verbosity.TICKS);
+    }
+
+    public static ScheduleResult schedule(Workload w)
+    {
+        return schedule(w, new SchedulerScratch(), EventLog.Verbosity.TICKS);
+    }
+
+    //*** Verbosity.OFF skips the log entirely (metrics and segments only) ***//
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity)
+    {
+        return schedule(w, s, verbosity, ProgressListener.NONE);
+    }
+
+    //*** progress is told how many of the schedulable jobs have completed ***//
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress)
+    {
+        return schedule(w, s, verbosity, progress, SwitchCost.NONE);
+    }
+
+    public static ScheduleResult schedule(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress, SwitchCost cost)
+    {
+        int[] order = w.order(); //*** Zero-length jobs are left out, the rest sorted by arrival time ***//
+        int n = order.length;
+
+        if (n == 0)
+        {
+            return new ScheduleResult(Collections.emptyList(), new EventLog(verbosity, "--- SRTF Scheduling ---", "(no jobs)"), 0, 0, 0, 0, 0);
+        }
+
+        int[] ids = w.ids(), arrivals = w.arrivals(), bursts = w.bursts();
+        s.prepare(w.size(), n);
+        int[] rem = s.remaining;
+
+        for (int k = 0; k < n; k++) rem[k] = bursts[order[k]];
+
+        int time = 0, completed = 0, busy = 0, nextArrivalIdx = 0;
+        int lastRan = -1, overhead = 0; //*** Job last dispatched (-1 after idling), time lost switching ***//
+        int switchingTo = -1;           //*** Job an overhead was just paid for, until it is dispatched ***//
+        int[] leftCpu = cost.isFree() ? null : (s.leftCpu = SchedulerScratch.ensure(s.leftCpu, n));
+        double totalWT = 0, totalTAT = 0;
+        LatencyStats latency = new LatencyStats();
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+
+        List<ExecutionSegment> segs = new ArrayList<>();
+        EventLog log = new EventLog(verbosity, "--- SRTF Scheduling ---");
+        SchedulerProbe probe = SchedulerProbe.start("SRTF", n);
+
+        int lastPid = -1, lastRem = 0;
+
+        //*** Ready queue of arrival positions keyed by (remaining time, ID); position settles exact duplicates ***//
+        IntHeap ready = s.ready;
+        ready.reset((a, b) ->
+        {
+            if (rem[a] != rem[b]) return Integer.compare(rem[a], rem[b]);
+            if (ids[order[a]] != ids[order[b]]) return Integer.compare(ids[order[a]], ids[order[b]]);
+
+            return Integer.compare(a, b);
+        });
+
+        //*** Loop runs until all processes complete, one iteration per arrival/completion event ***//
+        while (completed < n)
+        {
+            //*** Admit every job that has arrived by now ***//
+            while (nextArrivalIdx < n && arrivals[order[nextArrivalIdx]] <= time)
+            {
+                ready.add(nextArrivalIdx++);
+            }
+
+            probe.queueDepth(time, ready.size());
+
+            if (ready.isEmpty())
+            {
+                time = arrivals[order[nextArrivalIdx]]; //*** Idle CPU, jump to next arrival ***//
+                lastRan = -1;                           //*** Nothing to switch away from after idling ***//
+
+                continue;
+            }
+
+            //*** Switching jobs: charge the overhead, then decide again with whatever arrived meanwhile. If that ***//
+            //*** picks another job, the switch away from lastRan is already paid and only its resume cost is added ***//
+            if (leftCpu != null && ready.peek() != lastRan && ready.peek() != switchingTo)
+            {
+                int next = ready.peek(), row = order[next];
+                int o = cost.overhead(lastRan >= 0 && switchingTo < 0, rem[next] < bursts[row], time - leftCpu[next]);
+
+                if (o > 0)
+                {
+                    segs.add(new ExecutionSegment(ExecutionSegment.OVERHEAD, time, o));
+                    log.slice(EventLog.SWITCH, time, ids[row], o, lastRan >= 0 ? ids[order[lastRan]] : -1);
+                    overhead += o;
+                    time += o;
+                    switchingTo = next;
+
+                    continue;
+                }
+            }
+
+            boolean sampled = probe.sampleDispatch();
+            long selectStart = sampled ? System.nanoTime() : 0;
+            int cur = ready.poll();
+            int row = order[cur], pid = ids[row];
+            lastRan = cur;
+            switchingTo = -1;
+
+            //*** Only an arrival can preempt, so run until completion or the next arrival ***//
+            int run = rem[cur];
+
+            if (nextArrivalIdx < n)
+            {
+                run = Math.min(run, arrivals[order[nextArrivalIdx]] - time);
+            }
+
+            long logStart = sampled ? System.nanoTime() : 0;
+            boolean isStart = rem[cur] == bursts[row];
+
+            if (isStart) latency.started(arrivals[row], time);
+
+            if (log.enabled())
+            {
+                //*** Detect interrupt and resume events ***//
+                boolean isInterrupted = lastPid != -1 && pid != lastPid && lastRem > 0;
+                boolean isResuming = !isStart && !isInterrupted && pid != lastPid;
+                boolean wasEnd = rem[cur] == run;
+
+                int flags = (isStart ? EventLog.START : 0) | (isInterrupted ? EventLog.INTERRUPT : 0)
+                        | (isResuming ? EventLog.RESUME : 0) | (wasEnd ? EventLog.END : 0);
+
+                log.slice(flags, time, pid, run, lastPid);
+
+                lastPid = pid;
+                lastRem = rem[cur] - run;
+            }
+
+            if (sampled) probe.dispatched(selectStart, logStart, time, pid, ready.size());
+
+            //*** Record execution segment for Gantt chart; a piece only extends the last one if it follows on without a gap ***//
+            if (segs.isEmpty() || segs.getLast().id != pid || segs.getLast().start + segs.getLast().duration != time)
+            {
+                segs.add(new ExecutionSegment(pid, time, run));
+            }
+
+            else
+            {
+                segs.getLast().duration += run;
+            }
+
+            rem[cur] -= run; //*** Execute the whole slice ***//
+            busy += run;
+            time += run;
+
+            if (rem[cur] == 0)
+            {
+                completed++;
+                s.completion[row] = time;
+                int tat = time - arrivals[row];
+                int wt  = tat - bursts[row];
+                totalTAT += tat;
+                totalWT  += wt;
+                latency.completed(arrivals[row], bursts[row], time);
+
+                if (completed == nextReport || completed == n)
+                {
+                    probe.progress(time, completed);
+                    progress.progress(completed, n);
+                    nextReport += reportEvery;
+                }
+            }
+
+            else
+            {
+                ready.add(cur); //*** Back in the queue, an arrival may take over ***//
+
+                if (leftCpu != null) leftCpu[cur] = time;
+            }
+        }
+
+        //*** Calculate metrics ***//
+        double avgWT      = totalWT / n;
+        double avgTAT     = totalTAT / n;
+        double cpuUtil    = (double) busy / time;
+        double throughput = (double) n / time;
+
+        ScheduleResult res = new ScheduleResult(segs, log, avgWT, avgTAT, cpuUtil, throughput, time, latency);
+        res.overhead = (double) overhead / time;
+        probe.finish(res);
+
+        return res;
+    }
+}
@@ -0,0 +1,57 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Holds results for a scheduling run: segments, log, and performance metrics ***//
+//*** latency holds the distributions behind the averages; it is empty for results that did not record them (e.g. loaded traces) ***//
+public class ScheduleResult
+{
+    public List<ExecutionSegment> segments;
+    public EventLog log;
+    public double avgWT, avgTAT, cpuUtil, throughput;
+    public double overhead; //*** Share of the run spent on context switches (SwitchCost), not counted in cpuUtil ***//
+    public int totalTime;
+    public LatencyStats latency;
+    private SegmentIndex index; //*** Built on first use ***//
+
+    public ScheduleResult(List<ExecutionSegment> segments, EventLog log, double avgWT, double avgTAT, double cpuUtil, double throughput, int totalTime)
+    {
+        this(segments, log, avgWT, avgTAT, cpuUtil, throughput, totalTime, new LatencyStats());
+    }
+
+    public ScheduleResult(List<ExecutionSegment> segments, EventLog log, double avgWT, double avgTAT, double cpuUtil, double throughput, int totalTime,
+                          LatencyStats latency)
+    {
+        this.segments = segments;
+        this.log = log;
+        this.avgWT = avgWT;
+        this.avgTAT = avgTAT;
+        this.cpuUtil = cpuUtil;
+        this.throughput = throughput;
+        this.totalTime = totalTime;
+        this.latency = latency;
+    }
+
+    //*** Lanes and interval lookups over segments, built on the first call (worth doing off the UI thread); ***//
+    //*** segments must not change after that ***//
+    public synchronized SegmentIndex index()
+    {
+        if (index == null) index = SegmentIndex.of(segments);
+
+        return index;
+    }
+
+    //*** Approximate heap held by this result: segment objects, log records, the metric histograms and the index if built ***//
+    public long estimatedBytes()
+    {
+        SegmentIndex built;
+
+        synchronized (this)
+        {
+            built = index;
+        }
+
+        return 40L * segments.size() + (log == null ? 0 : 20L * log.records()) + (latency == null ? 0 : latency.estimatedBytes())
+                + (built == null ? 0 : built.estimatedBytes()) + 64;
+    }
+}
@@ -0,0 +1,16 @@
+package scheduler;
+
+//*** Service interface for single-CPU scheduling policies, discovered through ServiceLoader ***//
+//*** Implementations list themselves in META-INF/services/scheduler.Scheduler and need a public no-arg constructor; ***//
+//*** they must be stateless between runs, all per-run state lives in the SchedulerScratch ***//
+public interface Scheduler
+{
+    //*** Short display name, also the CLI's --algo key (matched case-insensitively) ***//
+    String name();
+
+    //*** Tuning values that change the schedule, e.g. "quanta=2,4,8"; part of the result cache key ***//
+    default String parameters() { return ""; }
+
+    //*** Schedules the workload; verbosity and progress behave as for SRTFScheduler.schedule ***//
+    ScheduleResult run(Workload w, SchedulerScratch s, EventLog.Verbosity verbosity, ProgressListener progress);
+}
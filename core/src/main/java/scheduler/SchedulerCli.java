@@ -0,0 +1,790 @@
+package scheduler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+//*** Headless batch runner: schedules CSV traces without starting the JavaFX toolkit ***//
+//*** Usage: --batch --algo srtf,hrrn --in a.csv[,b.csv] [--in -] [--out metrics.jsonl] [--segments] ***//
+//*** or:    --batch --cpus 1,4,16 [--balance global,steal,affinity] --in a.csv  (multi-CPU SRTF) ***//
+//*** or:    --convert trace.csv trace.sched  (CSV to the binary trace format) ***//
+//*** or:    --batch --stream --algo srtf|hrrn [--in trace.csv|-] [--segments]  (online, bounded memory) ***//
+//*** or:    --batch --io --algo srtf,hrrn --in bursts.csv [--segments]  (CPU / I/O burst processes, event kernel) ***//
+//*** or:    --batch --perf --in sched.txt [--algo srtf,hrrn] [--cpu n]  (recorded Linux trace against the schedulers) ***//
+//*** or:    --batch --sweep [--algo ..] [--processes ..] [--load ..] [--bursts ..] [--reps n] [--seed s] ***//
+public class SchedulerCli
+{
+    private static final String USAGE = "usage: --batch --algo srtf,hrrn --in trace.csv[,more.csv] [--out metrics.jsonl] [--segments]\n"
+            + "  --algo   any registered scheduler: srtf, hrrn, cfs, mlfq or a plug-in listed in META-INF/services/scheduler.Scheduler\n"
+            + "  --in -   reads one trace from stdin; results are written one JSON object per line (stdout by default)\n"
+            + "  --in also accepts binary .sched traces; --save DIR writes every schedule as DIR/<trace>.<algo>.sched\n"
+            + "  --cpus 1,4,16 [--balance global,steal,affinity]   multi-CPU SRTF instead of --algo, one line per core count and balancer\n"
+            + "  --cost switch=1,resume=1,cold=4,warmth=50   context-switch overhead for srtf and hrrn, reported as \"overhead\"";
+    private static final String STREAM_USAGE = "usage: --batch --stream --algo srtf|hrrn [--in trace.csv|-] [--out events.jsonl] [--segments]\n"
+            + "  rows must be in arrival order; one line per completed process (and per segment with --segments) as soon as it is final";
+    private static final String IO_USAGE = "usage: --batch --io --algo srtf,hrrn --in bursts.csv[,more.csv] [--out metrics.jsonl] [--segments]\n"
+            + "  rows are id,arrival,cpu[,device:io,cpu]... e.g. 1,0,5,0:3,2; one line per trace and algorithm with per-device utilisation";
+    private static final String PERF_USAGE = "usage: --batch --perf --in sched.txt[,more.txt] [--algo srtf,hrrn] [--cpu n] [--unit-ns 1000] [--out metrics.jsonl] [--segments]\n"
+            + "  text from perf script (after perf sched record) or ftrace with sched_switch/sched_wakeup; every CPU burst of a thread is one job\n"
+            + "  one line for the recorded timeline (\"algo\":\"recorded\"), then one per algorithm on the same jobs; --cpu keeps a single CPU\n"
+            + "  so the recording and the single-CPU schedulers see the same machine";
+    private static final String SWEEP_USAGE = "usage: --batch --sweep [--algo srtf,cfs (default: all registered)] [--processes 1000,10000] [--load 0.5,0.7,0.9]\n"
+            + "  [--bursts exponential,heavy_tailed] [--arrivals uniform|poisson|bursty] [--mean-burst 10 (>= 1)] [--reps 100] [--seed 1] [--out sweep.jsonl]";
+
+    public static void main(String[] args)
+    {
+        System.exit(run(args));
+    }
+
+    //*** Returns the process exit code: 0 ok, 1 I/O failure, 2 bad arguments ***//
+    public static int run(String[] args)
+    {
+        if (Arrays.asList(args).contains("--sweep")) return sweep(args);
+        if (Arrays.asList(args).contains("--stream")) return stream(args);
+        if (Arrays.asList(args).contains("--io")) return io(args);
+        if (Arrays.asList(args).contains("--perf")) return perf(args);
+        if (Arrays.asList(args).contains("--convert")) return convert(args);
+
+        Map<String, String> opts = parse(args, Set.of("--batch", "--segments"), Set.of("--algo", "--in", "--out", "--cpus", "--balance", "--save", "--cost"));
+
+        if (opts == null)
+        {
+            System.err.println(USAGE);
+
+            return 2;
+        }
+
+        boolean smp = opts.containsKey("--cpus");
+
+        if (smp && opts.containsKey("--algo"))
+        {
+            System.err.println("--cpus always runs SRTF; leave out --algo");
+            System.err.println(USAGE);
+
+            return 2;
+        }
+
+        List<Scheduler> algos = smp ? List.of() : algorithms(opts.get("--algo"));
+        int[] cpus = new int[0];
+        List<SmpScheduler.Balance> balances = new ArrayList<>();
+
+        if (algos != null && opts.containsKey("--cost"))
+        {
+            try
+            {
+                SwitchCost cost = SwitchCost.parse(opts.get("--cost"));
+                algos = algos.stream().map(a -> Schedulers.withSwitchCost(a, cost)).toList();
+            }
+
+            catch (IllegalArgumentException ex)
+            {
+                System.err.println("bad switch cost: " + ex.getMessage());
+                algos = null;
+            }
+        }
+
+        if (smp)
+        {
+            try
+            {
+                cpus = Arrays.stream(opts.get("--cpus").split(",")).mapToInt(Integer::parseInt).toArray();
+
+                for (String b : opts.getOrDefault("--balance", "global,steal,affinity").split(","))
+                {
+                    balances.add(SmpScheduler.Balance.valueOf(b.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+
+            catch (IllegalArgumentException ex)
+            {
+                System.err.println("bad SMP parameter: " + ex.getMessage());
+                cpus = null;
+            }
+        }
+
+        if (algos == null || cpus == null || Arrays.stream(cpus).anyMatch(c -> c < 1) || !opts.containsKey("--in"))
+        {
+            System.err.println(USAGE);
+
+            return 2;
+        }
+
+        List<String> inputs = Arrays.asList(opts.get("--in").split(","));
+        boolean withSegments = opts.containsKey("--segments");
+        Path saveDir = opts.containsKey("--save") ? Path.of(opts.get("--save")) : null;
+
+        try (Writer w = open(opts.get("--out")))
+        {
+            if (saveDir != null) Files.createDirectories(saveDir);
+
+            SchedulerScratch scratch = new SchedulerScratch(); //*** Reused by every run ***//
+
+            for (String in : inputs)
+            {
+                Workload jobs = readTrace(in);
+
+                for (Scheduler algo : algos)
+                {
+                    ScheduleResult res = algo.run(jobs, scratch, EventLog.Verbosity.OFF, ProgressListener.NONE);
+                    writeJson(w, in, algo, jobs.size(), res, withSegments);
+
+                    if (saveDir != null)
+                    {
+                        String base = in.equals("-") ? "stdin" : Path.of(in).getFileName().toString().replaceFirst("\\.[^.]*$", "");
+                        Path target = saveDir.resolve(base + "." + algo.name().toLowerCase(Locale.ROOT) + TraceFile.EXTENSION);
+                        TraceFile.write(target, jobs, algo.name(), res, scratch.completionTimes(jobs.size()));
+                    }
+                }
+
+                for (int c : cpus)
+                {
+                    for (SmpScheduler.Balance balance : balances)
+                    {
+                        writeSmpJson(w, in, jobs.size(), SmpScheduler.schedule(jobs, scratch, c, balance, ProgressListener.NONE), withSegments);
+                    }
+                }
+
+                w.flush(); //*** Stream each trace as soon as it is done ***//
+            }
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("batch run failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    //*** Monte Carlo mode: one JSON line per (grid point, algorithm) with mean, variance and quantiles ***//
+    private static int sweep(String[] args)
+    {
+        Map<String, String> opts = parse(args, Set.of("--batch", "--sweep"),
+                Set.of("--algo", "--load", "--bursts", "--arrivals", "--processes", "--reps", "--seed", "--mean-burst", "--out"));
+        List<Scheduler> algos = opts == null ? null : algorithms(opts.getOrDefault("--algo", registeredNames()));
+
+        if (algos == null)
+        {
+            System.err.println(SWEEP_USAGE);
+
+            return 2;
+        }
+
+        int[] counts;
+        double[] loads;
+        List<WorkloadGenerator.Bursts> bursts = new ArrayList<>();
+        WorkloadGenerator.Arrivals arrivals;
+        int reps;
+        long seed;
+        double meanBurst;
+
+        try
+        {
+            counts = Arrays.stream(opts.getOrDefault("--processes", "1000").split(",")).mapToInt(Integer::parseInt).toArray();
+            loads = Arrays.stream(opts.getOrDefault("--load", "0.5,0.7,0.9").split(",")).mapToDouble(Double::parseDouble).toArray();
+
+            for (String b : opts.getOrDefault("--bursts", "exponential,heavy_tailed").split(","))
+            {
+                bursts.add(WorkloadGenerator.Bursts.valueOf(b.toUpperCase(Locale.ROOT)));
+            }
+
+            arrivals = WorkloadGenerator.Arrivals.valueOf(opts.getOrDefault("--arrivals", "poisson").toUpperCase(Locale.ROOT));
+            reps = Integer.parseInt(opts.getOrDefault("--reps", "100"));
+            seed = Long.parseLong(opts.getOrDefault("--seed", "1"));
+            meanBurst = Double.parseDouble(opts.getOrDefault("--mean-burst", "10"));
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("bad sweep parameter: " + ex.getMessage() + "\n" + SWEEP_USAGE);
+
+            return 2;
+        }
+
+        if (reps < 1 || !(meanBurst >= 1) || Arrays.stream(counts).anyMatch(n -> n < 1) || Arrays.stream(loads).anyMatch(l -> l <= 0))
+        {
+            System.err.println(SWEEP_USAGE);
+
+            return 2;
+        }
+
+        ParameterSweep sweep = new ParameterSweep(algos, arrivals, meanBurst, reps, seed);
+        List<ParameterSweep.Point> points = sweep.run(counts, loads, bursts, ForkJoinPool.commonPool(), ProgressListener.NONE);
+
+        try (Writer w = open(opts.get("--out")))
+        {
+            for (ParameterSweep.Point p : points)
+            {
+                for (Scheduler algo : algos)
+                {
+                    w.write("{\"algo\":\"" + algo.name().toLowerCase(Locale.ROOT) + "\"");
+                    w.write(",\"processes\":" + p.processes);
+                    w.write(",\"load\":" + p.load);
+                    w.write(",\"arrivals\":\"" + arrivals.name().toLowerCase(Locale.ROOT) + "\"");
+                    w.write(",\"bursts\":\"" + p.bursts.name().toLowerCase(Locale.ROOT) + "\"");
+                    w.write(",\"reps\":" + reps);
+                    writeStats(w, "WT", p.waiting.get(algo));
+                    writeStats(w, "TAT", p.turnaround.get(algo));
+                    w.write("}\n");
+                }
+            }
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("sweep failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    //*** Online mode: rows are scheduled while they are read, nothing but the ready set is kept in memory ***//
+    private static int stream(String[] args)
+    {
+        Map<String, String> opts = parse(args, Set.of("--batch", "--stream", "--segments"), Set.of("--algo", "--in", "--out"));
+        StreamingScheduler.Policy policy = null;
+
+        try
+        {
+            if (opts != null) policy = StreamingScheduler.Policy.valueOf(opts.getOrDefault("--algo", "").trim().toUpperCase(Locale.ROOT));
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("streaming supports srtf or hrrn, got " + opts.get("--algo"));
+        }
+
+        if (policy == null)
+        {
+            System.err.println(STREAM_USAGE);
+
+            return 2;
+        }
+
+        String in = opts.getOrDefault("--in", "-");
+        boolean withSegments = opts.containsKey("--segments");
+        long[] lastFlush = { System.nanoTime() };
+
+        try (Writer w = open(opts.get("--out"));
+             Reader r = in.equals("-") ? new InputStreamReader(System.in, StandardCharsets.UTF_8) : Files.newBufferedReader(Path.of(in), StandardCharsets.UTF_8))
+        {
+            //*** Live pipes (tail -f) see output at least every 200 ms while input flows, and all of it before a wait for more ***//
+            Runnable flushSoon = () ->
+            {
+                if (System.nanoTime() - lastFlush[0] > 200_000_000L)
+                {
+                    flush(w);
+                    lastFlush[0] = System.nanoTime();
+                }
+            };
+
+            StreamingScheduler scheduler = new StreamingScheduler(policy, new StreamingScheduler.Sink()
+            {
+                @Override
+                public void segment(ExecutionSegment s)
+                {
+                    if (!withSegments) return;
+
+                    write(w, "{\"segment\":[" + s.id + "," + s.start + "," + s.duration + "]}\n");
+                    flushSoon.run();
+                }
+
+                @Override
+                public void completed(long index, int id, int arrival, int burst, int completion)
+                {
+                    write(w, "{\"id\":" + id + ",\"arrival\":" + arrival + ",\"burst\":" + burst + ",\"completion\":" + completion
+                            + ",\"wt\":" + (completion - arrival - burst) + ",\"tat\":" + (completion - arrival) + "}\n");
+                    flushSoon.run();
+                }
+            });
+
+            CsvWorkload.stream(r, scheduler::submit, () ->
+            {
+                flush(w);
+                lastFlush[0] = System.nanoTime();
+            });
+
+            ScheduleResult res = scheduler.finish();
+
+            w.write("{\"summary\":{\"algo\":\"" + policy.name().toLowerCase(Locale.ROOT) + "\"");
+            w.write(",\"processes\":" + scheduler.completedCount());
+            w.write(",\"avgWT\":" + res.avgWT);
+            w.write(",\"avgTAT\":" + res.avgTAT);
+            w.write(",\"cpuUtil\":" + res.cpuUtil);
+            w.write(",\"throughput\":" + res.throughput);
+            w.write(",\"totalTime\":" + res.totalTime);
+            writeLatency(w, res.latency);
+            w.write(",\"peakResident\":" + scheduler.peakResidentJobs() + "}}\n");
+        }
+
+        catch (UncheckedIOException ex)
+        {
+            System.err.println("stream failed: " + ex.getCause().getMessage());
+
+            return 1;
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("stream failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("bad stream: " + ex.getMessage()); //*** Out-of-order arrival ***//
+
+            return 2;
+        }
+
+        return 0;
+    }
+
+    //*** Processes with I/O bursts, run through the event kernel; --in files use the burst CSV format (stdin with -) ***//
+    private static int io(String[] args)
+    {
+        Map<String, String> opts = parse(args, Set.of("--batch", "--io", "--segments"), Set.of("--algo", "--in", "--out"));
+        List<StreamingScheduler.Policy> policies = new ArrayList<>();
+
+        try
+        {
+            if (opts != null)
+            {
+                for (String a : opts.getOrDefault("--algo", "srtf,hrrn").split(","))
+                {
+                    policies.add(StreamingScheduler.Policy.valueOf(a.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("the I/O kernel supports srtf or hrrn, got " + opts.get("--algo"));
+            policies.clear();
+        }
+
+        if (policies.isEmpty() || !opts.containsKey("--in"))
+        {
+            System.err.println(IO_USAGE);
+
+            return 2;
+        }
+
+        boolean withSegments = opts.containsKey("--segments");
+
+        try (Writer w = open(opts.get("--out")))
+        {
+            for (String in : opts.get("--in").split(","))
+            {
+                BurstWorkload jobs;
+
+                try (Reader r = in.equals("-") ? new InputStreamReader(System.in, StandardCharsets.UTF_8) : Files.newBufferedReader(Path.of(in), StandardCharsets.UTF_8))
+                {
+                    jobs = BurstWorkload.read(r);
+                }
+
+                for (StreamingScheduler.Policy policy : policies)
+                {
+                    writeIoJson(w, in, policy, jobs.size(), EventKernel.run(jobs, policy, EventLog.Verbosity.OFF, ProgressListener.NONE), withSegments);
+                }
+
+                w.flush();
+            }
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("I/O run failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    //*** Recorded scheduler traces: the timeline as it happened, then the same bursts through each algorithm ***//
+    private static int perf(String[] args)
+    {
+        Map<String, String> opts = parse(args, Set.of("--batch", "--perf", "--segments"), Set.of("--algo", "--in", "--out", "--cpu", "--unit-ns"));
+        List<Scheduler> algos = opts == null ? null : algorithms(opts.getOrDefault("--algo", "srtf,hrrn"));
+        int cpu;
+        long unitNanos;
+
+        try
+        {
+            cpu = opts == null ? -1 : Integer.parseInt(opts.getOrDefault("--cpu", "-1"));
+            unitNanos = opts == null ? 1000 : Long.parseLong(opts.getOrDefault("--unit-ns", "1000"));
+        }
+
+        catch (NumberFormatException ex)
+        {
+            System.err.println("bad perf parameter: " + ex.getMessage());
+            algos = null;
+            cpu = -1;
+            unitNanos = 1000;
+        }
+
+        if (algos == null || unitNanos < 1 || !opts.containsKey("--in"))
+        {
+            System.err.println(PERF_USAGE);
+
+            return 2;
+        }
+
+        boolean withSegments = opts.containsKey("--segments");
+
+        try (Writer w = open(opts.get("--out")))
+        {
+            SchedulerScratch scratch = new SchedulerScratch();
+
+            for (String in : opts.get("--in").split(","))
+            {
+                PerfSchedTrace.Result trace = in.equals("-")
+                        ? PerfSchedTrace.read(new InputStreamReader(System.in, StandardCharsets.ISO_8859_1), cpu, unitNanos, withSegments, EventLog.Verbosity.OFF, null)
+                        : PerfSchedTrace.read(Path.of(in), cpu, unitNanos, withSegments, EventLog.Verbosity.OFF, null);
+
+                writeRecordedJson(w, in, trace, withSegments);
+
+                for (Scheduler algo : algos)
+                {
+                    writeJson(w, in, algo, trace.workload.size(), algo.run(trace.workload, scratch, EventLog.Verbosity.OFF, ProgressListener.NONE), withSegments);
+                }
+
+                w.flush();
+            }
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("perf run failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        catch (IllegalArgumentException ex)
+        {
+            System.err.println("bad trace: " + ex.getMessage()); //*** Too long for the time unit ***//
+
+            return 2;
+        }
+
+        return 0;
+    }
+
+    private static void write(Writer w, String line)
+    {
+        try
+        {
+            w.write(line);
+        }
+
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void flush(Writer w)
+    {
+        try
+        {
+            w.flush();
+        }
+
+        catch (IOException ex)
+        {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    //*** Splits args into flags (mapped to "") and valued options; null on anything unrecognised ***//
+    private static Map<String, String> parse(String[] args, Set<String> flags, Set<String> valued)
+    {
+        Map<String, String> opts = new HashMap<>();
+
+        for (int i = 0; i < args.length; i++)
+        {
+            String arg = args[i];
+
+            if (flags.contains(arg))
+            {
+                opts.put(arg, "");
+            }
+
+            else if (valued.contains(arg) && i + 1 < args.length)
+            {
+                opts.merge(arg, args[++i], (a, b) -> a + "," + b); //*** Repeated options accumulate ***//
+            }
+
+            else
+            {
+                System.err.println("bad argument " + arg);
+
+                return null;
+            }
+        }
+
+        return opts;
+    }
+
+    private static List<Scheduler> algorithms(String spec)
+    {
+        if (spec == null) return null;
+
+        List<Scheduler> algos = new ArrayList<>();
+
+        for (String name : spec.split(","))
+        {
+            Scheduler algo = Schedulers.byName(name.trim());
+
+            if (algo == null)
+            {
+                System.err.println("unknown algorithm " + name + " (registered: " + registeredNames() + ")");
+
+                return null;
+            }
+
+            algos.add(algo);
+        }
+
+        return algos;
+    }
+
+    private static String registeredNames()
+    {
+        StringJoiner names = new StringJoiner(",");
+
+        for (Scheduler s : Schedulers.all()) names.add(s.name().toLowerCase(Locale.ROOT));
+
+        return names.toString();
+    }
+
+    private static Writer open(String out) throws IOException
+    {
+        return out == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Path.of(out), StandardCharsets.UTF_8);
+    }
+
+    private static void writeStats(Writer w, String metric, RunningStats s) throws IOException
+    {
+        w.write(",\"mean" + metric + "\":" + s.mean());
+        w.write(",\"var" + metric + "\":" + s.variance());
+        w.write(",\"p50" + metric + "\":" + s.quantile(0.50));
+        w.write(",\"p90" + metric + "\":" + s.quantile(0.90));
+        w.write(",\"p99" + metric + "\":" + s.quantile(0.99));
+    }
+
+    //*** Tail percentiles of waiting, turnaround and response time, Jain's fairness index and the starved job count ***//
+    private static void writeLatency(Writer w, LatencyStats l) throws IOException
+    {
+        w.write(",\"latency\":{");
+        writePercentiles(w, "wt", l.waiting());
+        w.write(",");
+        writePercentiles(w, "tat", l.turnaround());
+        w.write(",");
+        writePercentiles(w, "rt", l.response());
+        w.write(",\"jain\":" + l.jainFairness());
+        w.write(",\"starved\":" + l.starved() + "}");
+    }
+
+    private static void writePercentiles(Writer w, String key, LogHistogram h) throws IOException
+    {
+        w.write("\"" + key + "\":{\"p50\":" + h.quantile(0.50) + ",\"p90\":" + h.quantile(0.90) + ",\"p99\":" + h.quantile(0.99)
+                + ",\"p999\":" + h.quantile(0.999) + ",\"max\":" + h.max() + "}");
+    }
+
+    //*** --convert in.csv out.sched ***//
+    private static int convert(String[] args)
+    {
+        List<String> files = new ArrayList<>();
+
+        for (String arg : args)
+        {
+            if (!arg.equals("--convert") && !arg.equals("--batch")) files.add(arg);
+        }
+
+        if (files.size() != 2)
+        {
+            System.err.println("usage: --convert trace.csv trace" + TraceFile.EXTENSION);
+
+            return 2;
+        }
+
+        try
+        {
+            MappedCsvLoader.Result csv = MappedCsvLoader.load(Path.of(files.get(0)), null);
+            TraceFile.write(Path.of(files.get(1)), csv.workload);
+            System.err.println("converted " + csv.workload.size() + " rows (" + csv.skipped + " skipped)");
+        }
+
+        catch (IOException ex)
+        {
+            System.err.println("conversion failed: " + ex.getMessage());
+
+            return 1;
+        }
+
+        return 0;
+    }
+
+    private static Workload readTrace(String in) throws IOException
+    {
+        if (in.equals("-"))
+        {
+            return Workload.of(CsvWorkload.read(new InputStreamReader(System.in, StandardCharsets.UTF_8)));
+        }
+
+        if (TraceFile.isTrace(Path.of(in))) return TraceFile.read(Path.of(in)).workload;
+
+        return MappedCsvLoader.load(Path.of(in), null).workload;
+    }
+
+    private static void writeSmpJson(Writer w, String trace, int processes, SmpResult res, boolean withSegments) throws IOException
+    {
+        w.write("{\"trace\":\"" + trace.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        w.write(",\"algo\":\"srtf\",\"cpus\":" + res.cpus);
+        w.write(",\"balance\":\"" + res.balance.name().toLowerCase(Locale.ROOT) + "\"");
+        w.write(",\"processes\":" + processes);
+        w.write(",\"avgWT\":" + res.avgWT);
+        w.write(",\"p50WT\":" + res.p50WT);
+        w.write(",\"p99WT\":" + res.p99WT);
+        w.write(",\"maxWT\":" + res.maxWT);
+        w.write(",\"avgTAT\":" + res.avgTAT);
+        w.write(",\"cpuUtil\":" + res.cpuUtil);
+        w.write(",\"throughput\":" + res.throughput);
+        w.write(",\"totalTime\":" + res.totalTime);
+        w.write(",\"migrations\":" + res.migrations);
+        writeLatency(w, res.latency);
+        w.write(",\"coreUtil\":" + Arrays.toString(res.coreUtil).replace(" ", ""));
+
+        if (withSegments)
+        {
+            w.write(",\"lanes\":[");
+
+            for (int c = 0; c < res.cpus; c++)
+            {
+                w.write(c == 0 ? "[" : ",[");
+                writeSegments(w, res.lanes.get(c));
+                w.write("]");
+            }
+
+            w.write("]");
+        }
+
+        w.write("}\n");
+    }
+
+    private static void writeRecordedJson(Writer w, String trace, PerfSchedTrace.Result t, boolean withSegments) throws IOException
+    {
+        ScheduleResult res = t.baseline;
+        SmpResult smp = res instanceof SmpResult s ? s : null;
+
+        w.write("{\"trace\":\"" + trace.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        w.write(",\"algo\":\"recorded\",\"cpus\":" + (smp == null ? 1 : smp.cpus));
+        w.write(",\"processes\":" + t.workload.size());
+        w.write(",\"events\":" + t.events);
+        w.write(",\"skipped\":" + t.skipped);
+        w.write(",\"unfinished\":" + t.unfinished);
+        w.write(",\"avgWT\":" + res.avgWT);
+        w.write(",\"avgTAT\":" + res.avgTAT);
+        w.write(",\"cpuUtil\":" + res.cpuUtil);
+        w.write(",\"throughput\":" + res.throughput);
+        w.write(",\"totalTime\":" + res.totalTime);
+        writeLatency(w, res.latency);
+
+        if (smp != null) w.write(",\"coreUtil\":" + Arrays.toString(smp.coreUtil).replace(" ", ""));
+
+        if (withSegments)
+        {
+            List<List<ExecutionSegment>> lanes = smp == null ? List.of(res.segments) : smp.lanes;
+            w.write(",\"lanes\":[");
+
+            for (int c = 0; c < lanes.size(); c++)
+            {
+                w.write(c == 0 ? "[" : ",[");
+                writeSegments(w, lanes.get(c));
+                w.write("]");
+            }
+
+            w.write("]");
+        }
+
+        w.write("}\n");
+    }
+
+    private static void writeIoJson(Writer w, String trace, StreamingScheduler.Policy policy, int processes, IoResult res, boolean withSegments) throws IOException
+    {
+        w.write("{\"trace\":\"" + trace.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        w.write(",\"algo\":\"" + policy.name().toLowerCase(Locale.ROOT) + "\"");
+        w.write(",\"processes\":" + processes);
+        w.write(",\"devices\":" + res.devices);
+        w.write(",\"avgWT\":" + res.avgWT);
+        w.write(",\"avgTAT\":" + res.avgTAT);
+        w.write(",\"avgDeviceWait\":" + res.avgDeviceWait);
+        w.write(",\"cpuUtil\":" + res.cpuUtil);
+        w.write(",\"deviceUtil\":" + Arrays.toString(res.deviceUtil).replace(" ", ""));
+        w.write(",\"overlap\":" + res.overlap);
+        w.write(",\"throughput\":" + res.throughput);
+        w.write(",\"totalTime\":" + res.totalTime);
+        writeLatency(w, res.latency);
+
+        if (withSegments)
+        {
+            w.write(",\"segments\":[");
+            writeSegments(w, res.segments);
+            w.write("],\"deviceLanes\":[");
+
+            for (int d = 0; d < res.devices; d++)
+            {
+                w.write(d == 0 ? "[" : ",[");
+                writeSegments(w, res.deviceLanes.get(d));
+                w.write("]");
+            }
+
+            w.write("]");
+        }
+
+        w.write("}\n");
+    }
+
+    private static void writeSegments(Writer w, List<ExecutionSegment> segments) throws IOException
+    {
+        for (int i = 0; i < segments.size(); i++)
+        {
+            ExecutionSegment s = segments.get(i);
+            w.write((i == 0 ? "[" : ",[") + (s.id == ExecutionSegment.OVERHEAD ? "null" : s.id) + "," + s.start + "," + s.duration + "]");
+        }
+    }
+
+    private static void writeJson(Writer w, String trace, Scheduler algo, int processes, ScheduleResult res, boolean withSegments) throws IOException
+    {
+        w.write("{\"trace\":\"" + trace.replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        w.write(",\"algo\":\"" + algo.name().toLowerCase(Locale.ROOT) + "\"");
+        w.write(",\"processes\":" + processes);
+        w.write(",\"avgWT\":" + res.avgWT);
+        w.write(",\"avgTAT\":" + res.avgTAT);
+        w.write(",\"cpuUtil\":" + res.cpuUtil);
+        w.write(",\"overhead\":" + res.overhead);
+        w.write(",\"throughput\":" + res.throughput);
+        w.write(",\"totalTime\":" + res.totalTime);
+        writeLatency(w, res.latency);
+
+        if (withSegments)
+        {
+            w.write(",\"segments\":[");
+            writeSegments(w, res.segments);
+            w.write("]");
+        }
+
+        w.write("}\n");
+    }
+}
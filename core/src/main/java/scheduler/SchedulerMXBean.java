@@ -0,0 +1,23 @@
+package scheduler;
+
+//*** Live scheduler-engine counters, registered as scheduler:type=Engine on the platform MBean server ***//
+public interface SchedulerMXBean
+{
+    //*** Started minus completed counts runs in progress plus cancelled ones ***//
+    long getRunsStarted();
+    long getRunsCompleted();
+    long getProcessesCompleted();
+    long getDispatches();
+
+    //*** Simulated clock of the run that reported most recently ***//
+    int getSimulatedTime();
+
+    //*** Dispatches per wall-clock second since the previous read of this attribute ***//
+    double getDispatchesPerSecond();
+
+    //*** Estimated heap held by the last finished run's result (segments, log, metrics) ***//
+    long getLastResultBytes();
+
+    //*** Estimated bytes of every result produced so far; an allocation total, not what is still reachable ***//
+    long getResultBytesProduced();
+}
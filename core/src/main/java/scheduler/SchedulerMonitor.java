@@ -0,0 +1,97 @@
+package scheduler;
+
+import java.lang.management.*;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.*;
+
+//*** Process-wide counters fed by SchedulerProbe; registered with the platform MBean server on first use ***//
+//*** Counters are LongAdders so parallel runs (sweeps, comparisons) do not contend ***//
+public final class SchedulerMonitor implements SchedulerMXBean
+{
+    public static final String OBJECT_NAME = "scheduler:type=Engine";
+
+    private static volatile SchedulerMonitor instance;
+
+    private final LongAdder runsStarted = new LongAdder(), runsCompleted = new LongAdder();
+    private final LongAdder processes = new LongAdder(), dispatches = new LongAdder(), resultBytes = new LongAdder();
+    private volatile int simulatedTime;
+    private volatile long lastResultBytes;
+    private long rateNanos = System.nanoTime(), rateDispatches; //*** Guarded by this ***//
+
+    private SchedulerMonitor() { }
+
+    public static SchedulerMonitor get()
+    {
+        SchedulerMonitor m = instance;
+
+        if (m == null)
+        {
+            synchronized (SchedulerMonitor.class)
+            {
+                m = instance;
+
+                if (m == null)
+                {
+                    m = new SchedulerMonitor();
+                    register(m);
+                    instance = m;
+                }
+            }
+        }
+
+        return m;
+    }
+
+    //*** Best effort: without JMX the counters still work, they are just not exported ***//
+    private static void register(SchedulerMonitor m)
+    {
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(m, new ObjectName(OBJECT_NAME));
+        }
+
+        catch (JMException | SecurityException ex)
+        {
+            System.err.println("Scheduler MBean not registered: " + ex.getMessage());
+        }
+    }
+
+    void runStarted()
+    {
+        runsStarted.increment();
+    }
+
+    void advance(int time, int completed, long dispatched)
+    {
+        simulatedTime = time;
+        processes.add(completed);
+        dispatches.add(dispatched);
+    }
+
+    void runFinished(int time, int completed, long dispatched, long bytes)
+    {
+        advance(time, completed, dispatched);
+        runsCompleted.increment();
+        resultBytes.add(bytes);
+        lastResultBytes = bytes;
+    }
+
+    @Override public long getRunsStarted() { return runsStarted.sum(); }
+    @Override public long getRunsCompleted() { return runsCompleted.sum(); }
+    @Override public long getProcessesCompleted() { return processes.sum(); }
+    @Override public long getDispatches() { return dispatches.sum(); }
+    @Override public int getSimulatedTime() { return simulatedTime; }
+    @Override public long getLastResultBytes() { return lastResultBytes; }
+    @Override public long getResultBytesProduced() { return resultBytes.sum(); }
+
+    @Override
+    public synchronized double getDispatchesPerSecond()
+    {
+        long now = System.nanoTime(), total = dispatches.sum();
+        double rate = now == rateNanos ? 0 : (total - rateDispatches) * 1e9 / (now - rateNanos);
+        rateNanos = now;
+        rateDispatches = total;
+
+        return rate;
+    }
+}
@@ -0,0 +1,137 @@
+package scheduler;
+
+import jdk.jfr.*;
+
+//*** Per-run instrumentation handle for the scheduler loops: JFR events plus the live counters behind SchedulerMonitor ***//
+//*** Whether JFR wants the events is checked once at run start, so with no recording the hot-loop calls are ***//
+//*** a counter increment and a false branch; live counters are published only at progress-report points ***//
+public final class SchedulerProbe
+{
+    //*** One dispatch in SAMPLE_EVERY gets a dispatch event ***//
+    public static final int SAMPLE_EVERY = 1024;
+
+    //*** Queue events need the depth to double or halve and move by at least this much, so short 0/1 flips ***//
+    //*** do not flood the recording ***//
+    private static final int QUEUE_SLACK = 16;
+
+    @Name("scheduler.Run")
+    @Label("Scheduler Run")
+    @Category({ "CPU Scheduler" })
+    @Description("One complete scheduling run")
+    static final class RunEvent extends Event
+    {
+        @Label("Algorithm") String algorithm;
+        @Label("Processes") int processes;
+        @Label("Dispatches") long dispatches;
+        @Label("Simulated Time") int simulatedTime;
+        @Label("Average Waiting Time") double avgWT;
+        @Label("Result Size") @DataAmount long resultBytes;
+    }
+
+    @Name("scheduler.Dispatch")
+    @Label("Dispatch Decision (sampled)")
+    @Category({ "CPU Scheduler" })
+    @Description("Every " + SAMPLE_EVERY + "th dispatch: time spent selecting the job and logging the slice")
+    static final class DispatchEvent extends Event
+    {
+        @Label("Algorithm") String algorithm;
+        @Label("Simulated Time") int simulatedTime;
+        @Label("Process ID") int pid;
+        @Label("Ready Queue Depth") int readyDepth;
+        @Label("Selection") @Timespan long selectNanos;
+        @Label("Logging") @Timespan long logNanos;
+    }
+
+    @Name("scheduler.QueueDepth")
+    @Label("Ready Queue Depth Change")
+    @Category({ "CPU Scheduler" })
+    @Description("Ready queue depth at least doubled or halved (and moved by 16+) since the last event")
+    static final class QueueEvent extends Event
+    {
+        @Label("Algorithm") String algorithm;
+        @Label("Simulated Time") int simulatedTime;
+        @Label("Ready Queue Depth") int readyDepth;
+    }
+
+    private final String algorithm;
+    private final int processes;
+    private final RunEvent run;
+    private final boolean sampling, queueEvents;
+    private long dispatches, published;
+    private int completedPublished, reported = -QUEUE_SLACK - 1;
+
+    private SchedulerProbe(String algorithm, int processes)
+    {
+        this.algorithm = algorithm;
+        this.processes = processes;
+        run = new RunEvent();
+        run.begin();
+        sampling = new DispatchEvent().isEnabled();
+        queueEvents = new QueueEvent().isEnabled();
+        SchedulerMonitor.get().runStarted();
+    }
+
+    public static SchedulerProbe start(String algorithm, int processes)
+    {
+        return new SchedulerProbe(algorithm, processes);
+    }
+
+    //*** Counts a dispatch; true when this one is sampled, in which case the caller times it and calls dispatched ***//
+    public boolean sampleDispatch()
+    {
+        return (++dispatches & (SAMPLE_EVERY - 1)) == 0 && sampling;
+    }
+
+    //*** selectStart and logStart are System.nanoTime() readings taken before picking the job and before logging ***//
+    public void dispatched(long selectStart, long logStart, int time, int pid, int readyDepth)
+    {
+        DispatchEvent e = new DispatchEvent();
+        e.algorithm = algorithm;
+        e.simulatedTime = time;
+        e.pid = pid;
+        e.readyDepth = readyDepth;
+        e.selectNanos = logStart - selectStart;
+        e.logNanos = System.nanoTime() - logStart;
+        e.commit();
+    }
+
+    public void queueDepth(int time, int depth)
+    {
+        if (!queueEvents) return;
+
+        if (Math.abs(depth - reported) < QUEUE_SLACK || (depth < 2 * reported && 2 * depth > reported)) return;
+
+        reported = depth;
+        QueueEvent e = new QueueEvent();
+        e.algorithm = algorithm;
+        e.simulatedTime = time;
+        e.readyDepth = depth;
+        e.commit();
+    }
+
+    //*** Called where the scheduler reports progress ***//
+    public void progress(int time, int completed)
+    {
+        SchedulerMonitor.get().advance(time, completed - completedPublished, dispatches - published);
+        completedPublished = completed;
+        published = dispatches;
+    }
+
+    public void finish(ScheduleResult res)
+    {
+        long bytes = res.estimatedBytes();
+        SchedulerMonitor.get().runFinished(res.totalTime, processes - completedPublished, dispatches - published, bytes);
+
+        if (run.shouldCommit())
+        {
+            run.end();
+            run.algorithm = algorithm;
+            run.processes = processes;
+            run.dispatches = dispatches;
+            run.simulatedTime = res.totalTime;
+            run.avgWT = res.avgWT;
+            run.resultBytes = bytes;
+            run.commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package scheduler;
+
+import java.util.Arrays;
+
+//*** Mutable per-run state for the array-based schedulers, reused across runs to avoid GC churn ***//
+//*** Not thread-safe: use one instance per thread ***//
+public class SchedulerScratch
+{
+    int[] remaining = new int[0];   //*** Indexed by arrival-order position ***//
+    int[] completion = new int[0];  //*** Indexed by workload row, -1 for rows that never ran ***//
+    int[] burstClass = new int[0];  //*** HRRN: dense burst-length bucket per arrival-order position ***//
+    int[] active = new int[0], activePos = new int[0];
+    IntHeap ready = new IntHeap();
+    IntHeap[] buckets = new IntHeap[0];
+    IntHeap[] runQueues = new IntHeap[0]; //*** SMP: one ready queue per simulated CPU; MLFQ: one per level ***//
+    int[] vruntime = new int[0];          //*** CFS virtual runtime, MLFQ enqueue sequence ***//
+    int[] level = new int[0], used = new int[0]; //*** MLFQ: queue level and time used of its allotment ***//
+    IntTree timeline = new IntTree();     //*** CFS run queue ordered by vruntime ***//
+    int[] leftCpu = new int[0];           //*** SRTF with switch costs: when each job was last preempted ***//
+
+    //*** Sizes the arrays for a workload of rows rows, m of them schedulable ***//
+    void prepare(int rows, int m)
+    {
+        if (remaining.length < m) remaining = new int[m];
+        if (burstClass.length < m) burstClass = new int[m];
+        if (completion.length < rows) completion = new int[rows];
+
+        Arrays.fill(completion, 0, rows, -1);
+    }
+
+    //*** a if it holds at least m ints, otherwise a fresh array ***//
+    static int[] ensure(int[] a, int m)
+    {
+        return a.length >= m ? a : new int[m];
+    }
+
+    void prepareBuckets(int classes)
+    {
+        if (buckets.length < classes)
+        {
+            int old = buckets.length;
+            buckets = Arrays.copyOf(buckets, classes);
+
+            for (int c = old; c < classes; c++) buckets[c] = new IntHeap();
+
+            active = new int[classes];
+            activePos = new int[classes];
+        }
+    }
+
+    void prepareRunQueues(int cpus)
+    {
+        if (runQueues.length < cpus)
+        {
+            int old = runQueues.length;
+            runQueues = Arrays.copyOf(runQueues, cpus);
+
+            for (int c = old; c < cpus; c++) runQueues[c] = new IntHeap();
+        }
+    }
+
+    //*** Completion time of workload row i in the last run, -1 if it was not scheduled (burst <= 0) ***//
+    public int completionTime(int i) { return completion[i]; }
+
+    //*** Copy of the first rows completion times, e.g. to save a run before the scratch is reused ***//
+    public int[] completionTimes(int rows) { return Arrays.copyOf(completion, rows); }
+}
@@ -0,0 +1,45 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Registry of the Scheduler implementations on the class path, in discovery order ***//
+public final class Schedulers
+{
+    private static final List<Scheduler> ALL = load();
+
+    private Schedulers() { }
+
+    public static List<Scheduler> all() { return ALL; }
+
+    //*** Registered scheduler with this name (case-insensitive), or null ***//
+    public static Scheduler byName(String name)
+    {
+        for (Scheduler s : ALL)
+        {
+            if (s.name().equalsIgnoreCase(name)) return s;
+        }
+
+        return null;
+    }
+
+    //*** s charging cost on every context switch; only SRTF and HRRN model switch costs, others come back unchanged ***//
+    public static Scheduler withSwitchCost(Scheduler s, SwitchCost cost)
+    {
+        if (s instanceof SRTFScheduler) return new SRTFScheduler(cost);
+        if (s instanceof HRRNScheduler) return new HRRNScheduler(cost);
+
+        return s;
+    }
+
+    private static List<Scheduler> load()
+    {
+        Map<String, Scheduler> byName = new LinkedHashMap<>();
+
+        for (Scheduler s : ServiceLoader.load(Scheduler.class, Scheduler.class.getClassLoader()))
+        {
+            byName.putIfAbsent(s.name().toLowerCase(Locale.ROOT), s); //*** First registration of a name wins ***//
+        }
+
+        return List.copyOf(byName.values());
+    }
+}
@@ -0,0 +1,222 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Read-only interval index over one lane of execution (a CPU or a device): segments that do not overlap ***//
+//*** Contiguous pieces of the same job are merged, then kept in time order as plain arrays, so "what ran at t" ***//
+//*** and "segments in [t1, t2)" are binary searches over the start and end columns ***//
+//*** Every job (id) also gets a lane, lanes numbered in order of first run, with its segments listed in time ***//
+//*** order (CSR layout), so "all segments of P" and hit-testing inside one lane are binary searches too ***//
+public final class SegmentIndex
+{
+    private final int[] starts, ends, ids, lane;
+    private final int[] laneIds, laneOffsets, laneSegs;
+    private final int[] sortedIds, laneBySortedId;
+
+    private SegmentIndex(int[] starts, int[] ends, int[] ids)
+    {
+        this.starts = starts;
+        this.ends = ends;
+        this.ids = ids;
+        int n = ids.length;
+
+        //*** Group segments by id: (id, segment) pairs sorted as longs ***//
+        long[] pairs = new long[n];
+
+        for (int i = 0; i < n; i++) pairs[i] = ((long) ids[i] << 32) | i;
+
+        Arrays.sort(pairs);
+
+        int groups = 0;
+
+        for (int i = 0; i < n; i++)
+        {
+            if (i == 0 || (pairs[i] >>> 32) != (pairs[i - 1] >>> 32)) groups++;
+        }
+
+        //*** A group's first pair holds its earliest segment; lanes follow that order ***//
+        int[] groupStart = new int[groups + 1];
+        long[] firsts = new long[groups];
+        sortedIds = new int[groups];
+
+        for (int i = 0, g = 0; i < n; i++)
+        {
+            if (i == 0 || (pairs[i] >>> 32) != (pairs[i - 1] >>> 32))
+            {
+                groupStart[g] = i;
+                sortedIds[g] = (int) (pairs[i] >> 32);
+                firsts[g] = ((pairs[i] & 0xFFFFFFFFL) << 32) | g;
+                g++;
+            }
+        }
+
+        groupStart[groups] = n;
+        Arrays.sort(firsts);
+
+        laneIds = new int[groups];
+        laneOffsets = new int[groups + 1];
+        laneSegs = new int[n];
+        laneBySortedId = new int[groups];
+        lane = new int[n];
+
+        for (int l = 0, at = 0; l < groups; l++)
+        {
+            int g = (int) firsts[l];
+            laneIds[l] = sortedIds[g];
+            laneBySortedId[g] = l;
+            laneOffsets[l] = at;
+
+            for (int i = groupStart[g]; i < groupStart[g + 1]; i++)
+            {
+                int seg = (int) pairs[i];
+                laneSegs[at++] = seg;
+                lane[seg] = l;
+            }
+        }
+
+        laneOffsets[groups] = n;
+    }
+
+    //*** Segments must not overlap; they are sorted by start first if they are not in time order already ***//
+    public static SegmentIndex of(List<ExecutionSegment> segments)
+    {
+        int n = segments.size();
+        int[] order = null;
+
+        for (int i = 1; i < n && order == null; i++)
+        {
+            if (segments.get(i).start < segments.get(i - 1).start) order = chronological(segments);
+        }
+
+        int[] starts = new int[n], ends = new int[n], ids = new int[n];
+        int m = 0;
+
+        for (int k = 0; k < n; k++)
+        {
+            ExecutionSegment s = segments.get(order == null ? k : order[k]);
+
+            if (s.duration <= 0) continue;
+
+            if (m > 0 && ids[m - 1] == s.id && ends[m - 1] == s.start)
+            {
+                ends[m - 1] += s.duration; //*** Same job carries on ***//
+
+                continue;
+            }
+
+            starts[m] = s.start;
+            ends[m] = s.start + s.duration;
+            ids[m++] = s.id;
+        }
+
+        return new SegmentIndex(Arrays.copyOf(starts, m), Arrays.copyOf(ends, m), Arrays.copyOf(ids, m));
+    }
+
+    private static int[] chronological(List<ExecutionSegment> segments)
+    {
+        long[] keys = new long[segments.size()];
+
+        for (int i = 0; i < keys.length; i++) keys[i] = ((long) segments.get(i).start << 32) | i;
+
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+
+        for (int i = 0; i < order.length; i++) order[i] = (int) keys[i];
+
+        return order;
+    }
+
+    public int size() { return ids.length; }
+    public int start(int i) { return starts[i]; }
+    public int end(int i) { return ends[i]; }
+    public int id(int i) { return ids[i]; }
+    public int lane(int i) { return lane[i]; }
+    public int lanes() { return laneIds.length; }
+    public int laneId(int l) { return laneIds[l]; }
+    public int laneSize(int l) { return laneOffsets[l + 1] - laneOffsets[l]; }
+    public int laneSegment(int l, int k) { return laneSegs[laneOffsets[l] + k]; } //*** k-th segment of lane l, in time order ***//
+
+    //*** Lane of the job with this id, -1 if it never ran ***//
+    public int laneOf(int id)
+    {
+        int g = Arrays.binarySearch(sortedIds, id);
+
+        return g < 0 ? -1 : laneBySortedId[g];
+    }
+
+    //*** Segment running at time t, -1 when idle ***//
+    public int at(double t)
+    {
+        int i = firstEndingAfter(t);
+
+        return i < starts.length && starts[i] <= t ? i : -1;
+    }
+
+    //*** Segments overlapping [t1, t2) are firstEndingAfter(t1) .. firstStartingFrom(t2) - 1 ***//
+    public int firstEndingAfter(double t)
+    {
+        int lo = 0, hi = ends.length;
+
+        while (lo < hi)
+        {
+            int mid = (lo + hi) >>> 1;
+
+            if (ends[mid] > t) hi = mid; else lo = mid + 1;
+        }
+
+        return lo;
+    }
+
+    public int firstStartingFrom(double t)
+    {
+        int lo = 0, hi = starts.length;
+
+        while (lo < hi)
+        {
+            int mid = (lo + hi) >>> 1;
+
+            if (starts[mid] >= t) hi = mid; else lo = mid + 1;
+        }
+
+        return lo;
+    }
+
+    //*** Position k in lane l of the first segment ending after t, laneSize(l) if none ***//
+    public int laneFirstEndingAfter(int l, double t)
+    {
+        int lo = laneOffsets[l], hi = laneOffsets[l + 1], base = lo;
+
+        while (lo < hi)
+        {
+            int mid = (lo + hi) >>> 1;
+
+            if (ends[laneSegs[mid]] > t) hi = mid; else lo = mid + 1;
+        }
+
+        return lo - base;
+    }
+
+    //*** Segment of lane l running at time t, -1 when that job is not running ***//
+    public int laneAt(int l, double t)
+    {
+        int k = laneFirstEndingAfter(l, t);
+
+        if (k == laneSize(l)) return -1;
+
+        int seg = laneSegment(l, k);
+
+        return starts[seg] <= t ? seg : -1;
+    }
+
+    long estimatedBytes() { return 28L * ids.length + 20L * laneIds.length + 128; }
+
+    //*** Time lane l spent running ***//
+    public long laneTime(int l)
+    {
+        long sum = 0;
+
+        for (int k = laneOffsets[l]; k < laneOffsets[l + 1]; k++) sum += ends[laneSegs[k]] - starts[laneSegs[k]];
+
+        return sum;
+    }
+}
@@ -0,0 +1,39 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Result of a multi-CPU run: the usual metrics plus one Gantt lane and one utilisation figure per CPU ***//
+//*** segments holds CPU 0's lane (the whole schedule when cpus == 1); cpuUtil is averaged over all CPUs ***//
+public class SmpResult extends ScheduleResult
+{
+    public int cpus;
+    public SmpScheduler.Balance balance;
+    public List<List<ExecutionSegment>> lanes;
+    public double[] coreUtil;
+    public double p50WT, p99WT, maxWT;
+    public long migrations; //*** Jobs taken from another CPU's queue (STEAL only) ***//
+
+    public SmpResult(int cpus, SmpScheduler.Balance balance, List<List<ExecutionSegment>> lanes, EventLog log, double avgWT, double avgTAT,
+                     double cpuUtil, double throughput, int totalTime, double[] coreUtil, LatencyStats latency, long migrations)
+    {
+        super(lanes.getFirst(), log, avgWT, avgTAT, cpuUtil, throughput, totalTime, latency);
+        this.cpus = cpus;
+        this.balance = balance;
+        this.lanes = lanes;
+        this.coreUtil = coreUtil;
+        this.p50WT = latency.waiting().quantile(0.50);
+        this.p99WT = latency.waiting().quantile(0.99);
+        this.maxWT = latency.waiting().max();
+        this.migrations = migrations;
+    }
+
+    @Override
+    public long estimatedBytes()
+    {
+        long lanesBytes = 0;
+
+        for (int c = 1; c < lanes.size(); c++) lanesBytes += 40L * lanes.get(c).size();
+
+        return super.estimatedBytes() + lanesBytes + 8L * coreUtil.length;
+    }
+}
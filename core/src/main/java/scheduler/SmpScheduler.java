@@ -0,0 +1,298 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Preemptive SRTF on N identical CPUs, event-driven like SRTFScheduler ***//
+//*** GLOBAL shares one ready queue, so the N shortest jobs always run; STEAL gives every CPU its own queue, ***//
+//*** places arrivals on the least loaded CPU and lets an idle CPU take work from the longest queue; ***//
+//*** AFFINITY pins each job to CPU (id mod N) and never migrates it ***//
+public class SmpScheduler
+{
+    public enum Balance { GLOBAL, STEAL, AFFINITY }
+
+    public static SmpResult schedule(Workload w, int cpus, Balance balance)
+    {
+        return schedule(w, new SchedulerScratch(), cpus, balance, ProgressListener.NONE);
+    }
+
+    public static SmpResult schedule(Workload w, SchedulerScratch s, int cpus, Balance balance, ProgressListener progress)
+    {
+        if (cpus < 1) throw new IllegalArgumentException("cpus must be at least 1, got " + cpus);
+
+        int[] order = w.order();
+        int n = order.length;
+        String title = "--- SMP SRTF Scheduling (" + cpus + " CPUs, " + balance.name().toLowerCase(Locale.ROOT) + ") ---";
+        List<List<ExecutionSegment>> lanes = new ArrayList<>(cpus);
+
+        for (int c = 0; c < cpus; c++) lanes.add(new ArrayList<>());
+
+        if (n == 0)
+        {
+            return new SmpResult(cpus, balance, lanes, new EventLog(EventLog.Verbosity.EVENTS, title, "(no jobs)"),
+                    0, 0, 0, 0, 0, new double[cpus], new LatencyStats(), 0);
+        }
+
+        int[] ids = w.ids(), arrivals = w.arrivals(), bursts = w.bursts();
+        s.prepare(w.size(), n);
+        int[] rem = s.remaining;
+
+        for (int k = 0; k < n; k++) rem[k] = bursts[order[k]];
+
+        //*** Same (remaining, ID, position) order as single-CPU SRTF, so one CPU reproduces it exactly ***//
+        IntHeap.Order srtf = (a, b) ->
+        {
+            if (rem[a] != rem[b]) return Integer.compare(rem[a], rem[b]);
+            if (ids[order[a]] != ids[order[b]]) return Integer.compare(ids[order[a]], ids[order[b]]);
+
+            return Integer.compare(a, b);
+        };
+
+        IntHeap ready = s.ready;
+        IntHeap[] queues = null;
+
+        if (balance == Balance.GLOBAL)
+        {
+            ready.reset(srtf);
+        }
+
+        else
+        {
+            s.prepareRunQueues(cpus);
+            queues = s.runQueues;
+
+            for (int c = 0; c < cpus; c++) queues[c].reset(srtf);
+        }
+
+        int[] cur = new int[cpus];      //*** Arrival position running on each CPU, -1 when idle ***//
+        int[] segStart = new int[cpus]; //*** When the running job's current segment began ***//
+        long[] coreBusy = new long[cpus];
+        Arrays.fill(cur, -1);
+
+        int time = 0, completed = 0, nextArrivalIdx = 0, queued = 0;
+        long busy = 0, migrations = 0;
+        double totalWT = 0, totalTAT = 0;
+        int reportEvery = ProgressListener.interval(n), nextReport = reportEvery;
+        LatencyStats latency = new LatencyStats();
+        SchedulerProbe probe = SchedulerProbe.start("SMP SRTF", n); //*** Run-level only: no dispatch sampling across CPUs ***//
+
+        //*** One iteration per arrival/completion instant; all running CPUs advance together ***//
+        while (completed < n)
+        {
+            //*** Admit arrivals; on per-CPU queues a shorter arrival preempts its CPU's job straight away ***//
+            while (nextArrivalIdx < n && arrivals[order[nextArrivalIdx]] <= time)
+            {
+                int k = nextArrivalIdx++;
+
+                if (queues == null)
+                {
+                    ready.add(k);
+
+                    continue;
+                }
+
+                int c = balance == Balance.AFFINITY ? Math.floorMod(ids[order[k]], cpus) : leastLoaded(queues, cur);
+
+                if (cur[c] >= 0 && srtf.compare(k, cur[c]) < 0)
+                {
+                    emit(lanes.get(c), ids[order[cur[c]]], segStart[c], time);
+                    queues[c].add(cur[c]);
+                    queued++;
+                    cur[c] = k;
+                    segStart[c] = time;
+                }
+
+                else
+                {
+                    queues[c].add(k);
+                    queued++;
+                }
+            }
+
+            //*** Dispatch ***//
+            if (queues == null)
+            {
+                //*** Fill idle CPUs first, then displace the longest running job while a queued one beats it ***//
+                while (!ready.isEmpty())
+                {
+                    int c = idleCpu(cur);
+
+                    if (c < 0)
+                    {
+                        c = longestRunning(cur, srtf);
+
+                        if (srtf.compare(ready.peek(), cur[c]) >= 0) break;
+
+                        emit(lanes.get(c), ids[order[cur[c]]], segStart[c], time);
+                        ready.add(cur[c]);
+                    }
+
+                    cur[c] = ready.poll();
+                    segStart[c] = time;
+                }
+            }
+
+            else
+            {
+                for (int c = 0; c < cpus && queued > 0; c++)
+                {
+                    if (cur[c] >= 0) continue;
+
+                    int from = !queues[c].isEmpty() ? c : balance == Balance.STEAL ? busiest(queues, cpus) : -1;
+
+                    if (from < 0) continue;
+                    if (from != c) migrations++;
+
+                    cur[c] = queues[from].poll();
+                    queued--;
+                    segStart[c] = time;
+                }
+            }
+
+            //*** Next event: an arrival or the earliest completion on any CPU ***//
+            int until = nextArrivalIdx < n ? arrivals[order[nextArrivalIdx]] : Integer.MAX_VALUE;
+            boolean running = false;
+
+            for (int c = 0; c < cpus; c++)
+            {
+                if (cur[c] < 0) continue;
+
+                until = Math.min(until, time + rem[cur[c]]);
+                running = true;
+            }
+
+            if (!running)
+            {
+                time = arrivals[order[nextArrivalIdx]]; //*** Every CPU idle, jump to next arrival ***//
+
+                continue;
+            }
+
+            int run = until - time;
+
+            for (int c = 0; c < cpus; c++)
+            {
+                int k = cur[c];
+
+                if (k < 0) continue;
+
+                if (rem[k] == bursts[order[k]]) latency.started(arrivals[order[k]], time); //*** First slice ***//
+
+                rem[k] -= run;
+                coreBusy[c] += run;
+                busy += run;
+
+                if (rem[k] > 0) continue;
+
+                int row = order[k];
+                emit(lanes.get(c), ids[row], segStart[c], until);
+                cur[c] = -1;
+                completed++;
+                s.completion[row] = until;
+                int tat = until - arrivals[row];
+                int wt  = tat - bursts[row];
+                totalTAT += tat;
+                totalWT  += wt;
+                latency.completed(arrivals[row], bursts[row], until);
+
+                if (completed == nextReport || completed == n)
+                {
+                    probe.progress(until, completed);
+                    progress.progress(completed, n);
+                    nextReport += reportEvery;
+                }
+            }
+
+            time = until;
+        }
+
+        //*** Calculate metrics ***//
+        double[] coreUtil = new double[cpus];
+        String[] header = new String[cpus + 2];
+        header[0] = title;
+
+        for (int c = 0; c < cpus; c++)
+        {
+            coreUtil[c] = (double) coreBusy[c] / time;
+            header[c + 1] = String.format("CPU %d: %.2f%% busy, %d segments", c, coreUtil[c] * 100, lanes.get(c).size());
+        }
+
+        header[cpus + 1] = "Migrations: " + migrations;
+
+        SmpResult res = new SmpResult(cpus, balance, lanes, new EventLog(EventLog.Verbosity.EVENTS, header), totalWT / n, totalTAT / n,
+                (double) busy / ((double) time * cpus), (double) n / time, time, coreUtil, latency, migrations);
+        probe.finish(res);
+
+        return res;
+    }
+
+    //*** Appends [start, end) to a CPU lane, extending the last segment when the same job simply continues ***//
+    //*** Empty slices come from two arrivals at one instant preempting the same CPU in turn ***//
+    private static void emit(List<ExecutionSegment> lane, int pid, int start, int end)
+    {
+        if (end == start) return;
+
+        if (!lane.isEmpty() && lane.getLast().id == pid && lane.getLast().start + lane.getLast().duration == start)
+        {
+            lane.getLast().duration += end - start;
+        }
+
+        else
+        {
+            lane.add(new ExecutionSegment(pid, start, end - start));
+        }
+    }
+
+    private static int idleCpu(int[] cur)
+    {
+        for (int c = 0; c < cur.length; c++)
+        {
+            if (cur[c] < 0) return c;
+        }
+
+        return -1;
+    }
+
+    private static int longestRunning(int[] cur, IntHeap.Order srtf)
+    {
+        int worst = 0;
+
+        for (int c = 1; c < cur.length; c++)
+        {
+            if (srtf.compare(cur[c], cur[worst]) > 0) worst = c;
+        }
+
+        return worst;
+    }
+
+    //*** Queued plus running jobs; ties go to the lowest CPU number ***//
+    private static int leastLoaded(IntHeap[] queues, int[] cur)
+    {
+        int best = 0, bestLoad = Integer.MAX_VALUE;
+
+        for (int c = 0; c < cur.length; c++)
+        {
+            int load = queues[c].size() + (cur[c] >= 0 ? 1 : 0);
+
+            if (load < bestLoad)
+            {
+                best = c;
+                bestLoad = load;
+            }
+        }
+
+        return best;
+    }
+
+    //*** CPU with the longest non-empty queue, -1 when there is nothing to steal ***//
+    private static int busiest(IntHeap[] queues, int cpus)
+    {
+        int best = -1;
+
+        for (int c = 0; c < cpus; c++)
+        {
+            if (!queues[c].isEmpty() && (best < 0 || queues[c].size() > queues[best].size())) best = c;
+        }
+
+        return best;
+    }
+}
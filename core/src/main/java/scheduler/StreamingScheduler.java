@@ -0,0 +1,407 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Online SRTF / HRRN over an unbounded arrival stream: jobs are submitted in arrival order, finished segments ***//
+//*** and completions go to a Sink as soon as they are final, and a finished job's slot is reused. Memory therefore ***//
+//*** follows the ready set, not the trace. Decisions match the batch schedulers on the same input ***//
+public class StreamingScheduler
+{
+    public enum Policy { SRTF, HRRN }
+
+    //*** Receives output as it is finalised; segments arrive in time order ***//
+    public interface Sink
+    {
+        void segment(ExecutionSegment segment);
+
+        //*** index counts the accepted (positive-burst) jobs from 0 in submission order ***//
+        void completed(long index, int id, int arrival, int burst, int completion);
+    }
+
+    private final Policy policy;
+    private final Sink sink;
+    private final EventLog log;
+
+    //*** Per-slot job state; a slot lives from admission to completion ***//
+    private int[] ids = new int[16], arrivals = new int[16], bursts = new int[16], rem = new int[16];
+    private long[] seq = new long[16];
+    private int[] free = new int[16];
+    private int freeCount, slots, resident, peakResident;
+
+    private final IntHeap ready = new IntHeap();                         //*** SRTF ***//
+    private final Map<Integer, IntHeap> bucketOf = new HashMap<>();     //*** HRRN: ready jobs per burst length ***//
+    private final List<IntHeap> active = new ArrayList<>();
+    private final ArrayDeque<IntHeap> spareBuckets = new ArrayDeque<>();
+    private final IntHeap.Order shortestFirst, oldestFirst;
+
+    private int time, cur = -1, lastArrival = Integer.MIN_VALUE;
+    private long submitted, completed, skipped, busy;
+    private double totalWT, totalTAT;
+    private LatencyStats latency = new LatencyStats();
+    private ExecutionSegment open; //*** Segment still growing on the CPU ***//
+    private int lastPid = -1, lastRem; //*** Previous log slice, for interrupt / resume flags ***//
+
+    public StreamingScheduler(Policy policy, Sink sink)
+    {
+        this(policy, sink, new EventLog(EventLog.Verbosity.OFF));
+    }
+
+    //*** log receives the same slices, in the same form, as the batch scheduler's log ***//
+    public StreamingScheduler(Policy policy, Sink sink, EventLog log)
+    {
+        this.policy = policy;
+        this.sink = sink;
+        this.log = log;
+
+        //*** Same orders as the batch schedulers, with the submission sequence standing in for arrival position ***//
+        shortestFirst = (a, b) ->
+        {
+            if (rem[a] != rem[b]) return Integer.compare(rem[a], rem[b]);
+            if (ids[a] != ids[b]) return Integer.compare(ids[a], ids[b]);
+
+            return Long.compare(seq[a], seq[b]);
+        };
+
+        oldestFirst = (a, b) ->
+        {
+            if (arrivals[a] != arrivals[b]) return Integer.compare(arrivals[a], arrivals[b]);
+            if (ids[a] != ids[b]) return Integer.compare(ids[a], ids[b]);
+
+            return Long.compare(seq[a], seq[b]);
+        };
+
+        ready.reset(shortestFirst);
+    }
+
+    //*** Adds a job; arrivals must not decrease. Everything decided before the arrival is flushed to the sink first ***//
+    public void submit(int id, int arrival, int burst)
+    {
+        if (arrival < lastArrival)
+        {
+            throw new IllegalArgumentException("arrival " + arrival + " of process " + id + " is before the previous arrival " + lastArrival);
+        }
+
+        lastArrival = arrival;
+
+        if (burst <= 0)
+        {
+            skipped++; //*** Zero-length jobs are left out, as in batch runs ***//
+
+            return;
+        }
+
+        advance(arrival);
+
+        int k = allocate();
+        ids[k] = id;
+        arrivals[k] = arrival;
+        bursts[k] = burst;
+        rem[k] = burst;
+        seq[k] = submitted++;
+
+        enqueue(k);
+    }
+
+    private void enqueue(int k)
+    {
+        if (policy == Policy.SRTF)
+        {
+            ready.add(k);
+        }
+
+        else
+        {
+            IntHeap bucket = bucketOf.get(bursts[k]);
+
+            if (bucket == null)
+            {
+                bucket = spareBuckets.isEmpty() ? new IntHeap() : spareBuckets.pop();
+                bucket.reset(oldestFirst);
+                bucketOf.put(bursts[k], bucket);
+                active.add(bucket);
+            }
+
+            bucket.add(k);
+        }
+    }
+
+    //*** End of stream: runs every admitted job to completion and returns the totals (segments were streamed) ***//
+    public ScheduleResult finish()
+    {
+        advance(Integer.MAX_VALUE);
+        closeSegment();
+
+        long n = completed;
+        String title = "--- Streaming " + policy + " Scheduling ---";
+
+        return new ScheduleResult(Collections.emptyList(), log.enabled() ? log : new EventLog(EventLog.Verbosity.OFF, title),
+                n == 0 ? 0 : totalWT / n, n == 0 ? 0 : totalTAT / n, time == 0 ? 0 : (double) busy / time,
+                time == 0 ? 0 : (double) n / time, time, latency);
+    }
+
+    public long completedCount() { return completed; }
+    public long skippedCount() { return skipped; }
+    public int residentJobs() { return resident; }           //*** Admitted but not finished ***//
+    public int peakResidentJobs() { return peakResident; }
+    public int time() { return time; }
+
+    //*** Simulates every decision strictly before limit; a decision at limit waits until all arrivals at limit are in ***//
+    private void advance(int limit)
+    {
+        while (time < limit || limit == Integer.MAX_VALUE)
+        {
+            if (cur >= 0 && policy == Policy.SRTF && !ready.isEmpty() && shortestFirst.compare(ready.peek(), cur) < 0)
+            {
+                ready.add(cur); //*** A shorter arrival takes over ***//
+                cur = ready.poll();
+            }
+
+            if (cur < 0)
+            {
+                cur = policy == Policy.SRTF ? (ready.isEmpty() ? -1 : ready.poll()) : pickHighestRatio();
+
+                if (cur < 0)
+                {
+                    closeSegment();
+
+                    if (limit != Integer.MAX_VALUE) time = limit; //*** Idle CPU, jump to the arrival ***//
+
+                    return;
+                }
+
+                if (policy == Policy.HRRN)
+                {
+                    log.slice(EventLog.WHOLE | EventLog.START | EventLog.END, time, ids[cur], bursts[cur], -1);
+                }
+            }
+
+            int run = rem[cur];
+
+            if (limit != Integer.MAX_VALUE) run = Math.min(run, limit - time);
+
+            if (policy == Policy.SRTF && log.enabled())
+            {
+                int pid = ids[cur];
+                boolean isStart = rem[cur] == bursts[cur];
+                boolean isInterrupted = lastPid != -1 && pid != lastPid && lastRem > 0;
+                boolean isResuming = !isStart && !isInterrupted && pid != lastPid;
+                boolean wasEnd = rem[cur] == run;
+
+                int flags = (isStart ? EventLog.START : 0) | (isInterrupted ? EventLog.INTERRUPT : 0)
+                        | (isResuming ? EventLog.RESUME : 0) | (wasEnd ? EventLog.END : 0);
+
+                log.slice(flags, time, pid, run, lastPid);
+
+                lastPid = pid;
+                lastRem = rem[cur] - run;
+            }
+
+            if (rem[cur] == bursts[cur]) latency.started(arrivals[cur], time);
+
+            extendSegment(ids[cur], run);
+            rem[cur] -= run;
+            busy += run;
+            time += run;
+
+            if (rem[cur] == 0)
+            {
+                int k = cur;
+                int tat = time - arrivals[k];
+                totalTAT += tat;
+                totalWT  += tat - bursts[k];
+                latency.completed(arrivals[k], bursts[k], time);
+                completed++;
+
+                if (policy == Policy.HRRN) closeSegment(); //*** HRRN keeps one segment per job ***//
+
+                sink.completed(seq[k], ids[k], arrivals[k], bursts[k], time);
+                release(k);
+                cur = -1;
+            }
+        }
+    }
+
+    //*** Everything needed to continue from here: counters plus the resident jobs (running one first) ***//
+    static final class State
+    {
+        int time, lastArrival, lastPid, lastRem, openId, openStart, openDuration;
+        boolean running;
+        long submitted, completed, skipped, busy;
+        double totalWT, totalTAT;
+        LatencyStats latency;
+        int[] ids, arrivals, bursts, rem;
+        long[] seq;
+    }
+
+    //*** O(resident jobs); the sink's and log's own progress is the caller's to record ***//
+    State snapshot()
+    {
+        State st = new State();
+        st.time = time;
+        st.lastArrival = lastArrival;
+        st.lastPid = lastPid;
+        st.lastRem = lastRem;
+        st.submitted = submitted;
+        st.completed = completed;
+        st.skipped = skipped;
+        st.busy = busy;
+        st.totalWT = totalWT;
+        st.totalTAT = totalTAT;
+        st.latency = latency.copy();
+        st.openId = open == null ? Integer.MIN_VALUE : open.id;
+        st.openStart = open == null ? 0 : open.start;
+        st.openDuration = open == null ? 0 : open.duration;
+        st.running = cur >= 0;
+
+        st.ids = new int[resident];
+        st.arrivals = new int[resident];
+        st.bursts = new int[resident];
+        st.rem = new int[resident];
+        st.seq = new long[resident];
+
+        boolean[] isFree = new boolean[slots];
+
+        for (int f = 0; f < freeCount; f++) isFree[free[f]] = true;
+
+        int at = 0;
+
+        if (cur >= 0) copySlot(st, at++, cur);
+
+        for (int k = 0; k < slots; k++)
+        {
+            if (!isFree[k] && k != cur) copySlot(st, at++, k);
+        }
+
+        return st;
+    }
+
+    //*** Only valid on a scheduler that has not been used yet ***//
+    void restore(State st)
+    {
+        time = st.time;
+        lastArrival = st.lastArrival;
+        lastPid = st.lastPid;
+        lastRem = st.lastRem;
+        submitted = st.submitted;
+        completed = st.completed;
+        skipped = st.skipped;
+        busy = st.busy;
+        totalWT = st.totalWT;
+        totalTAT = st.totalTAT;
+        latency = st.latency.copy();
+        open = st.openId == Integer.MIN_VALUE ? null : new ExecutionSegment(st.openId, st.openStart, st.openDuration);
+
+        for (int i = 0; i < st.ids.length; i++)
+        {
+            int k = allocate();
+            ids[k] = st.ids[i];
+            arrivals[k] = st.arrivals[i];
+            bursts[k] = st.bursts[i];
+            rem[k] = st.rem[i];
+            seq[k] = st.seq[i];
+
+            if (i == 0 && st.running) cur = k;
+            else enqueue(k);
+        }
+    }
+
+    private void copySlot(State st, int at, int k)
+    {
+        st.ids[at] = ids[k];
+        st.arrivals[at] = arrivals[k];
+        st.bursts[at] = bursts[k];
+        st.rem[at] = rem[k];
+        st.seq[at] = seq[k];
+    }
+
+    //*** Highest (wait + burst) / burst among bucket heads; ties to the smaller ID, then the earlier submission ***//
+    private int pickHighestRatio()
+    {
+        int best = -1, bestBucket = -1;
+
+        for (int a = 0; a < active.size(); a++)
+        {
+            int k = active.get(a).peek();
+            int cmp = best < 0 ? 1 : HRRNScheduler.compareRatios(time - arrivals[k], bursts[k], time - arrivals[best], bursts[best]);
+
+            if (cmp > 0 || (cmp == 0 && (ids[k] < ids[best] || (ids[k] == ids[best] && seq[k] < seq[best]))))
+            {
+                best = k;
+                bestBucket = a;
+            }
+        }
+
+        if (best < 0) return -1;
+
+        IntHeap bucket = active.get(bestBucket);
+        bucket.poll();
+
+        if (bucket.isEmpty())
+        {
+            active.set(bestBucket, active.getLast()); //*** Swap-remove, order does not matter ***//
+            active.removeLast();
+            bucketOf.remove(bursts[best]);
+            spareBuckets.push(bucket);
+        }
+
+        return best;
+    }
+
+    private void extendSegment(int pid, int run)
+    {
+        if (open != null && open.id == pid && open.start + open.duration == time)
+        {
+            open.duration += run;
+
+            return;
+        }
+
+        closeSegment();
+        open = new ExecutionSegment(pid, time, run);
+    }
+
+    private void closeSegment()
+    {
+        if (open == null) return;
+
+        sink.segment(open);
+        open = null;
+    }
+
+    private int allocate()
+    {
+        int k;
+
+        if (freeCount > 0)
+        {
+            k = free[--freeCount];
+        }
+
+        else
+        {
+            if (slots == ids.length)
+            {
+                int cap = slots * 2;
+                ids = Arrays.copyOf(ids, cap);
+                arrivals = Arrays.copyOf(arrivals, cap);
+                bursts = Arrays.copyOf(bursts, cap);
+                rem = Arrays.copyOf(rem, cap);
+                seq = Arrays.copyOf(seq, cap);
+            }
+
+            k = slots++;
+        }
+
+        peakResident = Math.max(peakResident, ++resident);
+
+        return k;
+    }
+
+    private void release(int k)
+    {
+        if (freeCount == free.length) free = Arrays.copyOf(free, free.length * 2);
+
+        free[freeCount++] = k;
+        resident--;
+    }
+}
@@ -0,0 +1,62 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Time the CPU loses when it changes jobs, charged into the schedule as overhead segments ***//
+//*** Every switch to a different job costs switchTime; a preempted job coming back also pays resumeTime plus a ***//
+//*** cache refill of coldTime * (1 - e^(-gap / warmth)), where gap is how long it was off the CPU, so a job ***//
+//*** resuming right away finds its cache warm and one resuming after many warmth periods pays about coldTime ***//
+public final class SwitchCost
+{
+    public static final SwitchCost NONE = new SwitchCost(0, 0, 0, 1);
+
+    public final int switchTime, resumeTime, coldTime, warmth;
+
+    public SwitchCost(int switchTime, int resumeTime, int coldTime, int warmth)
+    {
+        if (switchTime < 0 || resumeTime < 0 || coldTime < 0 || warmth < 1)
+        {
+            throw new IllegalArgumentException("switch costs need switch, resume, cold >= 0 and warmth >= 1");
+        }
+
+        this.switchTime = switchTime;
+        this.resumeTime = resumeTime;
+        this.coldTime = coldTime;
+        this.warmth = warmth;
+    }
+
+    //*** "switch=1,resume=1,cold=4,warmth=50"; keys may be left out (0, warmth 1) ***//
+    public static SwitchCost parse(String spec)
+    {
+        Map<String, Integer> v = new HashMap<>(Map.of("switch", 0, "resume", 0, "cold", 0, "warmth", 1));
+
+        for (String part : spec.split(","))
+        {
+            String[] kv = part.split("=");
+
+            if (kv.length != 2 || !v.containsKey(kv[0].trim()))
+            {
+                throw new IllegalArgumentException("bad switch cost \"" + part + "\", expected switch=, resume=, cold= or warmth=");
+            }
+
+            v.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+
+        return new SwitchCost(v.get("switch"), v.get("resume"), v.get("cold"), v.get("warmth"));
+    }
+
+    public boolean isFree() { return switchTime == 0 && resumeTime == 0 && coldTime == 0; }
+
+    //*** Overhead of putting a job on the CPU; gap only matters when it is resuming ***//
+    public int overhead(boolean switched, boolean resuming, int gap)
+    {
+        int cost = switched ? switchTime : 0;
+
+        if (resuming) cost += resumeTime + (int) Math.round(coldTime * -Math.expm1(-(double) gap / warmth));
+
+        return cost;
+    }
+
+    @Override
+    public String toString() { return "switch=" + switchTime + ",resume=" + resumeTime + ",cold=" + coldTime + ",warmth=" + warmth; }
+}
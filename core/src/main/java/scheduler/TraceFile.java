@@ -0,0 +1,241 @@
+package scheduler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+//*** Versioned little-endian columnar file for a workload and, optionally, one schedule of it ***//
+//*** Layout: 64-byte header, algorithm name padded to 8 bytes, then int columns id | arrival | burst, ***//
+//*** and with a schedule completion (per row, -1 = not run) | segment id | segment start | segment duration. ***//
+//*** Written through a FileChannel, read back by memory-mapping each column and bulk-copying it into an int[] ***//
+public class TraceFile
+{
+    public static final String EXTENSION = ".sched";
+
+    private static final byte[] MAGIC = "CPUSCHED".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1, HEADER = 64, HAS_SCHEDULE = 1;
+    private static final int WINDOW = 1 << 28; //*** Ints per mapping, keeps each map under 2 GB ***//
+
+    //*** What a file holds; result and completion are null for a workload-only file ***//
+    public static class Contents
+    {
+        public final Workload workload;
+        public final String algorithm;
+        public final ScheduleResult result;
+        public final int[] completion;
+
+        Contents(Workload workload, String algorithm, ScheduleResult result, int[] completion)
+        {
+            this.workload = workload;
+            this.algorithm = algorithm;
+            this.result = result;
+            this.completion = completion;
+        }
+    }
+
+    //*** True if the file starts with the trace magic (lets --in and the UI accept both CSV and binary traces) ***//
+    public static boolean isTrace(Path file) throws IOException
+    {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            ByteBuffer head = ByteBuffer.allocate(MAGIC.length);
+
+            while (head.hasRemaining() && ch.read(head) > 0) { }
+
+            return !head.hasRemaining() && Arrays.equals(head.array(), MAGIC);
+        }
+    }
+
+    public static void write(Path file, Workload w) throws IOException
+    {
+        write(file, w, null, null, null);
+    }
+
+    //*** completion[i] is row i's completion time (-1 if it never ran); algorithm, result and completion go together or are all null ***//
+    public static void write(Path file, Workload w, String algorithm, ScheduleResult result, int[] completion) throws IOException
+    {
+        boolean schedule = result != null;
+
+        if (schedule && (completion == null || completion.length < w.size()))
+        {
+            throw new IllegalArgumentException("a schedule needs one completion time per workload row");
+        }
+
+        byte[] name = schedule && algorithm != null ? algorithm.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int segments = schedule ? result.segments.size() : 0;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER + pad(name.length)).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(VERSION).putInt(schedule ? HAS_SCHEDULE : 0).putInt(w.size()).putInt(segments)
+              .putInt(schedule ? result.totalTime : 0).putInt(name.length)
+              .putDouble(schedule ? result.avgWT : 0).putDouble(schedule ? result.avgTAT : 0)
+              .putDouble(schedule ? result.cpuUtil : 0).putDouble(schedule ? result.throughput : 0)
+              .put(name);
+        header.clear();
+
+        //*** Write next to the target and move into place, so readers never see half a file ***//
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))
+        {
+            writeFully(ch, header);
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            ColumnWriter out = new ColumnWriter(ch, buf);
+
+            out.column(w.ids(), w.size());
+            out.column(w.arrivals(), w.size());
+            out.column(w.bursts(), w.size());
+
+            if (schedule)
+            {
+                int[] segIds = new int[segments], starts = new int[segments], durations = new int[segments];
+
+                for (int i = 0; i < segments; i++)
+                {
+                    ExecutionSegment seg = result.segments.get(i);
+                    segIds[i] = seg.id;
+                    starts[i] = seg.start;
+                    durations[i] = seg.duration;
+                }
+
+                out.column(completion, w.size());
+                out.column(segIds, segments);
+                out.column(starts, segments);
+                out.column(durations, segments);
+            }
+
+            out.flush();
+        }
+
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Contents read(Path file) throws IOException
+    {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            long size = ch.size();
+
+            if (size < HEADER) throw new IOException(file + " is not a schedule trace (too short)");
+
+            ByteBuffer header = ch.map(FileChannel.MapMode.READ_ONLY, 0, HEADER).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+
+            if (!Arrays.equals(magic, MAGIC)) throw new IOException(file + " is not a schedule trace");
+
+            int version = header.getInt(), flags = header.getInt(), rows = header.getInt(), segments = header.getInt();
+            int totalTime = header.getInt(), nameLength = header.getInt();
+            double avgWT = header.getDouble(), avgTAT = header.getDouble(), cpuUtil = header.getDouble(), throughput = header.getDouble();
+
+            if (version != VERSION) throw new IOException(file + ": unsupported trace version " + version + " (expected " + VERSION + ")");
+
+            boolean schedule = (flags & HAS_SCHEDULE) != 0;
+            long columns = 3L * rows + (schedule ? rows + 3L * segments : 0);
+            long dataStart = HEADER + pad(nameLength);
+
+            if (rows < 0 || segments < 0 || nameLength < 0 || size != dataStart + 4 * columns)
+            {
+                throw new IOException(file + ": truncated or corrupt trace (" + size + " bytes, header says " + (dataStart + 4 * columns) + ")");
+            }
+
+            byte[] name = new byte[nameLength];
+            ch.map(FileChannel.MapMode.READ_ONLY, HEADER, nameLength).get(name);
+
+            long at = dataStart;
+            int[] ids = readInts(ch, at, rows);       at += 4L * rows;
+            int[] arrivals = readInts(ch, at, rows);  at += 4L * rows;
+            int[] bursts = readInts(ch, at, rows);    at += 4L * rows;
+            Workload w = new Workload(ids, arrivals, bursts);
+
+            if (!schedule) return new Contents(w, null, null, null);
+
+            int[] completion = readInts(ch, at, rows);   at += 4L * rows;
+            int[] segIds = readInts(ch, at, segments);   at += 4L * segments;
+            int[] starts = readInts(ch, at, segments);   at += 4L * segments;
+            int[] durations = readInts(ch, at, segments);
+
+            List<ExecutionSegment> segs = new ArrayList<>(segments);
+            long overhead = 0;
+
+            for (int i = 0; i < segments; i++)
+            {
+                segs.add(new ExecutionSegment(segIds[i], starts[i], durations[i]));
+
+                if (segIds[i] == ExecutionSegment.OVERHEAD) overhead += durations[i]; //*** Not in the header, rebuilt from the segments ***//
+            }
+
+            String algorithm = new String(name, StandardCharsets.UTF_8);
+            EventLog log = new EventLog(EventLog.Verbosity.EVENTS, "--- " + algorithm + " Scheduling (loaded from " + file.getFileName() + ") ---");
+            ScheduleResult res = new ScheduleResult(segs, log, avgWT, avgTAT, cpuUtil, throughput, totalTime);
+            res.overhead = totalTime == 0 ? 0 : (double) overhead / totalTime;
+
+            return new Contents(w, algorithm, res, completion);
+        }
+    }
+
+    private static int[] readInts(FileChannel ch, long offset, int count) throws IOException
+    {
+        int[] out = new int[count];
+
+        for (int from = 0; from < count; from += WINDOW)
+        {
+            int n = Math.min(WINDOW, count - from);
+            IntBuffer view = ch.map(FileChannel.MapMode.READ_ONLY, offset + 4L * from, 4L * n).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            view.get(out, from, n);
+        }
+
+        return out;
+    }
+
+    private static int pad(int length)
+    {
+        return (length + 7) & ~7;
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException
+    {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+
+    //*** Streams int columns through one reusable direct buffer ***//
+    private static class ColumnWriter
+    {
+        private final FileChannel ch;
+        private final ByteBuffer buf;
+
+        ColumnWriter(FileChannel ch, ByteBuffer buf)
+        {
+            this.ch = ch;
+            this.buf = buf;
+        }
+
+        void column(int[] values, int count) throws IOException
+        {
+            for (int from = 0; from < count; )
+            {
+                if (buf.remaining() < 4) flush();
+
+                int n = Math.min(count - from, buf.remaining() / 4);
+                buf.asIntBuffer().put(values, from, n); //*** The view shares buf's byte order ***//
+                buf.position(buf.position() + 4 * n);
+                from += n;
+            }
+        }
+
+        void flush() throws IOException
+        {
+            buf.flip();
+            writeFully(ch, buf);
+            buf.clear();
+        }
+    }
+}
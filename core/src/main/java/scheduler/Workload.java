@@ -0,0 +1,146 @@
+package scheduler;
+
+import java.util.*;
+
+//*** Immutable struct-of-arrays workload: parallel id / arrival / burst columns ***//
+//*** Being immutable, a reference is already a snapshot; schedulers keep their mutable state in SchedulerScratch ***//
+public class Workload
+{
+    private final int[] ids, arrivals, bursts;
+    private int[] order; //*** Lazily built: indices of positive-burst rows sorted by arrival (stable) ***//
+    private long fingerprint; //*** Lazily built content hash, 0 = not yet computed ***//
+
+    //*** Takes ownership of the arrays, callers must not modify them afterwards ***//
+    Workload(int[] ids, int[] arrivals, int[] bursts)
+    {
+        if (ids.length != arrivals.length || ids.length != bursts.length)
+        {
+            throw new IllegalArgumentException("column lengths differ");
+        }
+
+        this.ids = ids;
+        this.arrivals = arrivals;
+        this.bursts = bursts;
+    }
+
+    public static Workload of(int[] ids, int[] arrivals, int[] bursts)
+    {
+        return new Workload(ids.clone(), arrivals.clone(), bursts.clone());
+    }
+
+    //*** Copy of the first n rows of growable columns ***//
+    public static Workload of(int[] ids, int[] arrivals, int[] bursts, int n)
+    {
+        return new Workload(Arrays.copyOf(ids, n), Arrays.copyOf(arrivals, n), Arrays.copyOf(bursts, n));
+    }
+
+    public static Workload of(List<Process> procs)
+    {
+        int n = procs.size();
+        int[] ids = new int[n], arrivals = new int[n], bursts = new int[n];
+
+        for (int i = 0; i < n; i++)
+        {
+            Process p = procs.get(i);
+            ids[i] = p.getId();
+            arrivals[i] = p.getArrivalTime();
+            bursts[i] = p.getBurstTime();
+        }
+
+        return new Workload(ids, arrivals, bursts);
+    }
+
+    public int size() { return ids.length; }
+    public int id(int i) { return ids[i]; }
+    public int arrival(int i) { return arrivals[i]; }
+    public int burst(int i) { return bursts[i]; }
+
+    //*** Boxed rows for the table and other Process-based callers ***//
+    public List<Process> toProcesses()
+    {
+        List<Process> list = new ArrayList<>(ids.length);
+
+        for (int i = 0; i < ids.length; i++)
+        {
+            list.add(new Process(ids[i], arrivals[i], bursts[i]));
+        }
+
+        return list;
+    }
+
+    //*** 64-bit hash of the rows (order matters); equal workloads always agree, different ones almost never do ***//
+    public long fingerprint()
+    {
+        long h = fingerprint;
+
+        if (h == 0)
+        {
+            h = mix(ids.length);
+
+            for (int i = 0; i < ids.length; i++)
+            {
+                h = mix(h ^ (((long) ids[i] << 32) | (arrivals[i] & 0xFFFFFFFFL)));
+                h = mix(h ^ bursts[i]);
+            }
+
+            if (h == 0) h = 1;
+
+            fingerprint = h; //*** Benign race, as for order ***//
+        }
+
+        return h;
+    }
+
+    //*** Same rows in the same order ***//
+    public boolean sameRows(Workload other)
+    {
+        return other == this || (Arrays.equals(ids, other.ids) && Arrays.equals(arrivals, other.arrivals) && Arrays.equals(bursts, other.bursts));
+    }
+
+    //*** Approximate heap footprint in bytes ***//
+    long footprint()
+    {
+        return 12L * ids.length + (order == null ? 0 : 4L * order.length) + 64;
+    }
+
+    //*** SplitMix64 finaliser ***//
+    private static long mix(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    //*** Column access for the schedulers, read-only by convention ***//
+    int[] ids() { return ids; }
+    int[] arrivals() { return arrivals; }
+    int[] bursts() { return bursts; }
+
+    //*** Schedulable rows (burst > 0) in arrival order, ties kept in input order ***//
+    int[] order()
+    {
+        int[] o = order;
+
+        if (o == null)
+        {
+            //*** Pack (arrival, index) into one long so a primitive sort is stable ***//
+            long[] keys = new long[ids.length];
+            int m = 0;
+
+            for (int i = 0; i < ids.length; i++)
+            {
+                if (bursts[i] > 0) keys[m++] = ((long) arrivals[i] << 32) | i;
+            }
+
+            Arrays.sort(keys, 0, m);
+            o = new int[m];
+
+            for (int k = 0; k < m; k++) o[k] = (int) keys[k];
+
+            order = o; //*** Benign race: every thread computes the same array ***//
+        }
+
+        return o;
+    }
+}
@@ -0,0 +1,75 @@
+package scheduler;
+
+import java.util.SplittableRandom;
+
+//*** Seeded synthetic workloads: the same parameters and seed always give the same Workload ***//
+public class WorkloadGenerator
+{
+    //*** UNIFORM: arrivals spread evenly at random, POISSON: exponential gaps, BURSTY: batches arriving together ***//
+    public enum Arrivals { UNIFORM, POISSON, BURSTY }
+
+    //*** EXPONENTIAL: light tail, HEAVY_TAILED: Pareto (alpha 1.5) capped at 1000x the mean ***//
+    public enum Bursts { EXPONENTIAL, HEAVY_TAILED }
+
+    private static final double PARETO_ALPHA = 1.5, BURST_CAP = 1000, MEAN_BATCH = 20;
+
+    //*** load is offered CPU demand per time unit: mean burst / mean inter-arrival gap ***//
+    public static Workload generate(int n, Arrivals arrivals, Bursts bursts, double meanBurst, double load, long seed)
+    {
+        if (n < 0 || meanBurst < 1 || load <= 0)
+        {
+            throw new IllegalArgumentException("need n >= 0, meanBurst >= 1, load > 0");
+        }
+
+        SplittableRandom rnd = new SplittableRandom(seed);
+        int[] ids = new int[n], arr = new int[n], burst = new int[n];
+        double gap = meanBurst / load;
+        double t = 0;
+
+        for (int i = 0; i < n; i++)
+        {
+            ids[i] = i + 1;
+            burst[i] = sampleBurst(rnd, bursts, meanBurst);
+
+            switch (arrivals)
+            {
+                case UNIFORM -> arr[i] = clamp(rnd.nextDouble() * gap * n);
+                case POISSON ->
+                {
+                    t += exponential(rnd, gap);
+                    arr[i] = clamp(t);
+                }
+                case BURSTY ->
+                {
+                    //*** A new batch starts with probability 1/MEAN_BATCH, batches keep the same mean load ***//
+                    if (i == 0 || rnd.nextDouble() < 1 / MEAN_BATCH) t += exponential(rnd, gap * MEAN_BATCH);
+                    arr[i] = clamp(t);
+                }
+            }
+        }
+
+        return new Workload(ids, arr, burst);
+    }
+
+    private static int sampleBurst(SplittableRandom rnd, Bursts bursts, double mean)
+    {
+        double b = switch (bursts)
+        {
+            case EXPONENTIAL -> exponential(rnd, mean);
+            case HEAVY_TAILED -> mean * (PARETO_ALPHA - 1) / PARETO_ALPHA / Math.pow(1 - rnd.nextDouble(), 1 / PARETO_ALPHA);
+        };
+
+        return (int) Math.max(1, Math.min(mean * BURST_CAP, Math.round(b)));
+    }
+
+    private static double exponential(SplittableRandom rnd, double mean)
+    {
+        return -mean * Math.log(1 - rnd.nextDouble());
+    }
+
+    //*** Keep arrivals well inside int range so completion times cannot overflow ***//
+    private static int clamp(double t)
+    {
+        return (int) Math.min(t, Integer.MAX_VALUE / 2);
+    }
+}
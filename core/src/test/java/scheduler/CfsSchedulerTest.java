@@ -0,0 +1,35 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.SRTFSchedulerTest.gantt;
+
+class CfsSchedulerTest
+{
+    private static ScheduleResult run(CfsScheduler cfs, Workload w)
+    {
+        return cfs.run(w, new SchedulerScratch(), EventLog.Verbosity.OFF, ProgressListener.NONE);
+    }
+
+    //*** Four tasks would get 6 / 4 = 1 unit each; minGranularity 2 stretches every slice to 2 ***//
+    @Test
+    void slicesNeverDropBelowMinGranularity()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3, 4 }, new int[] { 0, 0, 0, 0 }, new int[] { 4, 4, 4, 4 });
+
+        assertEquals("P1@0+2 P2@2+2 P3@4+2 P4@6+2 P1@8+2 P2@10+2 P3@12+2 P4@14+2", gantt(run(new CfsScheduler(6, 2, 1), w)));
+    }
+
+    //*** P1's slice runs to 3, but P3 wakes at 2 with min_vruntime 0, 2 behind P1 (more than the wakeup ***//
+    //*** granularity of 1), so P1 is cut off there; P2 then runs as the leftmost task, ahead of P3 on arrival order ***//
+    @Test
+    void wakeupPreemptsTheCurrentTask()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3 }, new int[] { 0, 0, 2 }, new int[] { 10, 10, 2 });
+
+        assertEquals("P1@0+2 P2@2+2 P3@4+2 P1@6+3 P2@9+3 P1@12+3 P2@15+3 P1@18+2 P2@20+2", gantt(run(new CfsScheduler(), w)));
+    }
+}
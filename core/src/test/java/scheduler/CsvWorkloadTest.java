@@ -0,0 +1,54 @@
+package scheduler;
+
+import java.io.Reader;
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWorkloadTest
+{
+    //*** Hands out one chunk per read, like a pipe whose writer pauses between chunks ***//
+    private static Reader chunks(String... parts)
+    {
+        return new Reader()
+        {
+            private int chunk, at;
+
+            @Override
+            public int read(char[] buf, int off, int len)
+            {
+                if (chunk == parts.length) return -1;
+
+                int n = Math.min(len, parts[chunk].length() - at);
+                parts[chunk].getChars(at, at + n, buf, off);
+                at += n;
+
+                if (at == parts[chunk].length())
+                {
+                    chunk++;
+                    at = 0;
+                }
+
+                return n;
+            }
+
+            @Override
+            public boolean ready() { return at > 0; }
+
+            @Override
+            public void close() { }
+        };
+    }
+
+    @Test
+    void beforeWaitRunsWhenNoLineIsBuffered() throws Exception
+    {
+        List<String> seen = new ArrayList<>();
+
+        CsvWorkload.stream(chunks("1,0,5\n2,1,3\n", "3,2,1\n"), (id, arrival, burst) -> seen.add("P" + id), () -> seen.add("wait"));
+
+        assertEquals(List.of("wait", "P1", "P2", "wait", "P3", "wait"), seen);
+    }
+}
@@ -0,0 +1,43 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.SRTFSchedulerTest.gantt;
+
+class HRRNSchedulerTest
+{
+    //*** P2 waits for P1 and pays the switch; P3 arrives to an idle CPU and does not ***//
+    @Test
+    void switchIsChargedOnlyBetweenBackToBackJobs()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3 }, new int[] { 0, 1, 20 }, new int[] { 4, 3, 2 });
+        ScheduleResult r = HRRNScheduler.schedule(w, new SchedulerScratch(), EventLog.Verbosity.EVENTS, ProgressListener.NONE, new SwitchCost(2, 5, 5, 1));
+
+        assertEquals("P1@0+4 -@4+2 P2@6+3 P3@20+2", gantt(r));
+        assertTrue(r.log.toString().contains("context switch P1 -> P2 (overhead 2)"), r.log.toString());
+        assertEquals(2.0 / 22, r.overhead, 1e-12);
+    }
+
+    //*** After P1, P2's ratio is exactly 2 and P3's is 2 + 1/1000001, closer than any fixed epsilon would notice ***//
+    @Test
+    void nearlyEqualRatiosAreComparedExactly()
+    {
+        Workload w = Workload.of(new int[] { 1, 3, 2 }, new int[] { 0, 999_998, 1_000_000 }, new int[] { 2_000_000, 1_000_001, 1_000_000 });
+        String expected = "P1@0+2000000 P3@2000000+1000001 P2@3000001+1000000";
+
+        assertEquals(expected, gantt(HRRNScheduler.schedule(w, new SchedulerScratch(), EventLog.Verbosity.OFF)));
+        assertEquals(expected, SegmentMergeTest.streamed(w, StreamingScheduler.Policy.HRRN));
+        assertEquals(expected, gantt(EventKernel.run(BurstWorkload.of(w), StreamingScheduler.Policy.HRRN, EventLog.Verbosity.OFF, ProgressListener.NONE)));
+    }
+
+    @Test
+    void ratioComparisonIsExactWithoutOverflow()
+    {
+        assertEquals(0, HRRNScheduler.compareRatios(3, 2, 6, 4));
+        assertTrue(HRRNScheduler.compareRatios(Integer.MAX_VALUE, 1, Integer.MAX_VALUE - 1, 1) > 0);
+        assertTrue(HRRNScheduler.compareRatios(1_000_000, 1_000_000, 1_000_002, 1_000_001) < 0);
+    }
+}
@@ -0,0 +1,25 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.SRTFSchedulerTest.gantt;
+
+class MlfqSchedulerTest
+{
+    //*** Quanta 2 / 4, boost every 10: ***//
+    //*** 0-4   P1 and P2 use their top-level quantum and drop to level 1 ***//
+    //*** 5     P3 arrives at the top and preempts P1 one unit into its level-1 allotment ***//
+    //*** 6-10  P2 gets level 1's full quantum and rotates there ***//
+    //*** 10    boost: P1 and P2 are back on top with 2-unit quanta, P1 is demoted again at 12 ***//
+    @Test
+    void demotionArrivalPreemptionAndBoost()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3 }, new int[] { 0, 0, 5 }, new int[] { 8, 8, 1 });
+        ScheduleResult r = new MlfqScheduler(new int[] { 2, 4 }, 10).run(w, new SchedulerScratch(), EventLog.Verbosity.OFF, ProgressListener.NONE);
+
+        assertEquals("P1@0+2 P2@2+2 P1@4+1 P3@5+1 P2@6+4 P1@10+2 P2@12+2 P1@14+3", gantt(r));
+    }
+}
@@ -0,0 +1,99 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaybackTimelineTest
+{
+    //*** Two rows share id 1: the first finishes at 2, the second only runs after P2 ***//
+    @Test
+    void duplicateIdsCompleteSeparately()
+    {
+        Workload w = Workload.of(new int[] { 1, 1, 2 }, new int[] { 0, 1, 1 }, new int[] { 2, 2, 1 });
+        SegmentIndex index = SegmentIndex.of(List.of(new ExecutionSegment(1, 0, 2), new ExecutionSegment(2, 2, 1), new ExecutionSegment(1, 3, 2)));
+        PlaybackTimeline tl = new PlaybackTimeline(w, new int[] { 2, 5, 3 }, List.of(index));
+        int[] out = new int[4];
+
+        tl.seek(1.5);
+        assertEquals(1, tl.running(0));
+        assertEquals(2, tl.readyCount());
+        assertArrayEquals(new int[] { 1, 2 }, Arrays.copyOf(out, tl.ready(out)));
+
+        tl.seek(2.5);
+        assertEquals(2, tl.running(0));
+        assertEquals(1, tl.readyCount());
+        assertArrayEquals(new int[] { 1 }, Arrays.copyOf(out, tl.ready(out)));
+
+        tl.seek(5);
+        assertEquals(0, tl.readyCount());
+    }
+
+    //*** Every CPU's runner is left out of the ready queue; checked against a scan of the rows ***//
+    @Test
+    void multiCpuRunMatchesBruteForce()
+    {
+        Workload g = WorkloadGenerator.generate(400, WorkloadGenerator.Arrivals.BURSTY, WorkloadGenerator.Bursts.HEAVY_TAILED, 8, 3.5, 42);
+        int n = g.size();
+        int[] ids = new int[n], arrivals = new int[n], bursts = new int[n];
+
+        for (int i = 0; i < n; i++)
+        {
+            ids[i] = g.id(i) % 50; //*** Plenty of repeated ids ***//
+            arrivals[i] = g.arrival(i);
+            bursts[i] = g.burst(i);
+        }
+
+        Workload w = Workload.of(ids, arrivals, bursts);
+        SchedulerScratch scratch = new SchedulerScratch();
+        SmpResult res = SmpScheduler.schedule(w, scratch, 4, SmpScheduler.Balance.STEAL, ProgressListener.NONE);
+        int[] completion = scratch.completionTimes(n);
+        PlaybackTimeline tl = PlaybackTimeline.of(w, completion, res);
+        int[] out = new int[n];
+
+        assertEquals(4, tl.cpus());
+
+        for (double t = 0; t <= res.totalTime; t += 0.5 + (t % 7) / 3) //*** Uneven steps, forwards only, then a jump back ***//
+        {
+            tl.seek(t);
+            check(w, completion, tl, t, out);
+        }
+
+        tl.seek(res.totalTime / 3.0);
+        check(w, completion, tl, res.totalTime / 3.0, out);
+    }
+
+    private static void check(Workload w, int[] completion, PlaybackTimeline tl, double t, int[] out)
+    {
+        Map<Integer, Integer> waiting = new TreeMap<>();
+        int busy = 0;
+
+        for (int i = 0; i < w.size(); i++)
+        {
+            if (w.burst(i) > 0 && w.arrival(i) <= t && t < completion[i]) waiting.merge(w.id(i), 1, Integer::sum);
+        }
+
+        for (int c = 0; c < tl.cpus(); c++)
+        {
+            int id = tl.running(c);
+
+            if (id == -1) continue;
+
+            busy++;
+            assertTrue(waiting.containsKey(id), "P" + id + " runs at t=" + t + " but is not live");
+            waiting.merge(id, -1, Integer::sum);
+        }
+
+        int expected = waiting.values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(expected, tl.readyCount(), "t=" + t);
+
+        Map<Integer, Integer> listed = new TreeMap<>();
+
+        for (int i = 0, k = tl.ready(out); i < k; i++) listed.merge(out[i], 1, Integer::sum);
+
+        waiting.values().removeIf(v -> v == 0);
+        assertEquals(waiting, listed, "t=" + t + " with " + busy + " CPUs busy");
+    }
+}
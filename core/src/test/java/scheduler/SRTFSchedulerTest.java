@@ -0,0 +1,50 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SRTFSchedulerTest
+{
+    static String gantt(ScheduleResult r)
+    {
+        return gantt(r.segments);
+    }
+
+    static String gantt(List<ExecutionSegment> segments)
+    {
+        StringBuilder sb = new StringBuilder();
+
+        for (ExecutionSegment s : segments)
+        {
+            sb.append(s.id == ExecutionSegment.OVERHEAD ? "-" : "P" + s.id).append('@').append(s.start).append('+').append(s.duration).append(' ');
+        }
+
+        return sb.toString().trim();
+    }
+
+    //*** P3 arrives while the CPU is switching from P1 to P2: it runs next, with no switch charged from P2 ***//
+    @Test
+    void shorterArrivalDuringSwitchTakesTheCpuWithoutAnotherSwitch()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3 }, new int[] { 0, 1, 2 }, new int[] { 10, 4, 1 });
+        ScheduleResult r = SRTFScheduler.schedule(w, new SchedulerScratch(), EventLog.Verbosity.EVENTS, ProgressListener.NONE, new SwitchCost(2, 0, 0, 1));
+
+        assertEquals("P1@0+1 -@1+2 P3@3+1 -@4+2 P2@6+4 -@10+2 P1@12+9", gantt(r));
+        assertEquals(21, r.totalTime);
+        assertTrue(r.log.toString().contains("t=1..2 -> context switch P1 -> P2 (overhead 2)"), r.log.toString());
+        assertFalse(r.log.toString().contains("context switch P2 -> P3"), r.log.toString());
+    }
+
+    @Test
+    void idleCpuChargesNoSwitch()
+    {
+        Workload w = Workload.of(new int[] { 1, 2 }, new int[] { 0, 5 }, new int[] { 2, 2 });
+        ScheduleResult r = SRTFScheduler.schedule(w, new SchedulerScratch(), EventLog.Verbosity.OFF, ProgressListener.NONE, new SwitchCost(2, 0, 0, 1));
+
+        assertEquals("P1@0+2 P2@5+2", gantt(r));
+        assertEquals(0, r.overhead);
+    }
+}
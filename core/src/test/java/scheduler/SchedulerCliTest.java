@@ -0,0 +1,26 @@
+package scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerCliTest
+{
+    @Test
+    void unknownArgumentPrintsUsage()
+    {
+        assertEquals(2, SchedulerCli.run(new String[] { "--batch", "--bogus" }));
+    }
+
+    @Test
+    void cpusRejectsAlgo()
+    {
+        assertEquals(2, SchedulerCli.run(new String[] { "--batch", "--cpus", "2", "--algo", "hrrn", "--in", "trace.csv" }));
+    }
+
+    @Test
+    void sweepRejectsMeanBurstBelowOne()
+    {
+        assertEquals(2, SchedulerCli.run(new String[] { "--batch", "--sweep", "--mean-burst", "0.5" }));
+    }
+}
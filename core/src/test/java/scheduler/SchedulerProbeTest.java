@@ -0,0 +1,48 @@
+package scheduler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchedulerProbeTest
+{
+    //*** Depths recorded by scheduler.QueueDepth while the queue fills to 100 and drains back to 0 ***//
+    @Test
+    void queueDrainIsReported() throws Exception
+    {
+        Path file = Files.createTempFile("probe", ".jfr");
+        List<Integer> depths = new ArrayList<>();
+
+        try (Recording recording = new Recording())
+        {
+            recording.enable("scheduler.QueueDepth");
+            recording.start();
+
+            SchedulerProbe probe = SchedulerProbe.start("TEST", 100);
+            int time = 0;
+
+            for (int d = 0; d <= 100; d++) probe.queueDepth(time++, d);
+            for (int d = 100; d >= 0; d--) probe.queueDepth(time++, d);
+
+            recording.stop();
+            recording.dump(file);
+
+            for (RecordedEvent e : RecordingFile.readAllEvents(file)) depths.add(e.getInt("readyDepth"));
+        }
+
+        finally
+        {
+            Files.deleteIfExists(file);
+        }
+
+        assertEquals(List.of(0, 16, 32, 64, 32, 16, 0), depths); //*** Up by doubling, back down by halving to empty ***//
+    }
+}
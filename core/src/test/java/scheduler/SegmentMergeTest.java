@@ -0,0 +1,59 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.SRTFSchedulerTest.gantt;
+
+//*** Batch, streaming and event-kernel runs cut the same Gantt segments, also when ids repeat: pieces of one ***//
+//*** id merge only when they follow on without a gap, and HRRN keeps one segment per job ***//
+class SegmentMergeTest
+{
+    static String streamed(Workload w, StreamingScheduler.Policy policy)
+    {
+        List<ExecutionSegment> segs = new ArrayList<>();
+        StreamingScheduler s = new StreamingScheduler(policy, new StreamingScheduler.Sink()
+        {
+            @Override
+            public void segment(ExecutionSegment segment) { segs.add(segment); }
+
+            @Override
+            public void completed(long index, int id, int arrival, int burst, int completion) { }
+        });
+
+        for (int i = 0; i < w.size(); i++) s.submit(w.id(i), w.arrival(i), w.burst(i));
+
+        s.finish();
+
+        return gantt(segs);
+    }
+
+    private static void assertSame(Workload w, String srtf, String hrrn)
+    {
+        assertEquals(srtf, gantt(SRTFScheduler.schedule(w)));
+        assertEquals(srtf, streamed(w, StreamingScheduler.Policy.SRTF));
+        assertEquals(srtf, gantt(EventKernel.run(BurstWorkload.of(w), StreamingScheduler.Policy.SRTF, EventLog.Verbosity.OFF, ProgressListener.NONE)));
+
+        assertEquals(hrrn, gantt(HRRNScheduler.schedule(w)));
+        assertEquals(hrrn, streamed(w, StreamingScheduler.Policy.HRRN));
+        assertEquals(hrrn, gantt(EventKernel.run(BurstWorkload.of(w), StreamingScheduler.Policy.HRRN, EventLog.Verbosity.OFF, ProgressListener.NONE)));
+    }
+
+    @Test
+    void repeatedIdAcrossAnIdleGapStaysTwoSegments()
+    {
+        Workload w = Workload.of(new int[] { 1, 1 }, new int[] { 0, 5 }, new int[] { 2, 2 });
+
+        assertSame(w, "P1@0+2 P1@5+2", "P1@0+2 P1@5+2");
+    }
+
+    @Test
+    void repeatedIdBackToBackMergesUnderSrtfOnly()
+    {
+        Workload w = Workload.of(new int[] { 1, 1, 2 }, new int[] { 0, 1, 1 }, new int[] { 2, 2, 3 });
+
+        assertSame(w, "P1@0+4 P2@4+3", "P1@0+2 P1@2+2 P2@4+3");
+    }
+}
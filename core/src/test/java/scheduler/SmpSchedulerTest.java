@@ -0,0 +1,37 @@
+package scheduler;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static scheduler.SRTFSchedulerTest.gantt;
+
+class SmpSchedulerTest
+{
+    //*** One shared queue: P3 displaces the longest running job (P1) at 1, and P1 comes back on CPU 1 when P3 ends ***//
+    @Test
+    void globalQueueRunsTheShortestJobs()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3, 4 }, new int[] { 0, 0, 1, 2 }, new int[] { 6, 4, 2, 5 });
+        SmpResult r = SmpScheduler.schedule(w, 2, SmpScheduler.Balance.GLOBAL);
+
+        assertEquals("P2@0+4 P4@4+5", gantt(r.lanes.get(0)));
+        assertEquals("P1@0+1 P3@1+2 P1@3+5", gantt(r.lanes.get(1)));
+        assertEquals(9, r.totalTime);
+        assertEquals(0, r.migrations);
+    }
+
+    //*** P1 and P3 land on CPU 0, P2 on CPU 1; once P2 is done CPU 1 has nothing queued and steals P1 ***//
+    @Test
+    void idleCpuStealsFromTheLongestQueue()
+    {
+        Workload w = Workload.of(new int[] { 1, 2, 3 }, new int[] { 0, 0, 0 }, new int[] { 10, 1, 8 });
+        SmpResult r = SmpScheduler.schedule(w, 2, SmpScheduler.Balance.STEAL);
+
+        assertEquals("P3@0+8", gantt(r.lanes.get(0)));
+        assertEquals("P2@0+1 P1@1+10", gantt(r.lanes.get(1)));
+        assertEquals(11, r.totalTime);
+        assertEquals(1, r.migrations);
+    }
+}